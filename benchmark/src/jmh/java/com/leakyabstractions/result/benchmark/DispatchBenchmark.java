@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Compares calling {@code Result} methods through the interface with the dispatching helpers in {@link Results}.
+ * <p>
+ * Each invocation transforms a fixed set of successful and failed results, a given percentage of which are wrapped in
+ * a third-party lazy implementation. When such results are present, the interface call sites see three receiver types
+ * and become megamorphic.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(DispatchBenchmark.RESULTS)
+public class DispatchBenchmark {
+
+    static final int RESULTS = 1024;
+
+    private static final Function<Integer, Integer> DOUBLE = x -> x * 2;
+
+    @Param({"0", "1", "10"})
+    int foreignRate;
+
+    Result<Integer, String>[] results;
+
+    @Setup
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void setup() {
+        final Random random = new Random(42);
+        this.results = new Result[RESULTS];
+        for (int i = 0; i < RESULTS; i++) {
+            final Result<Integer, String> result =
+                    random.nextBoolean() ? Results.success(random.nextInt(1_000_000)) : Results.failure("invalid");
+            this.results[i] = random.nextInt(100) < this.foreignRate ? new LazyResult<>(() -> result) : result;
+        }
+    }
+
+    /** Calls {@code mapSuccess} and {@code orElse} through the {@code Result} interface. */
+    @Benchmark
+    public long interfaceCalls() {
+        long sum = 0;
+        for (Result<Integer, String> result : this.results) {
+            sum += result.mapSuccess(DOUBLE).orElse(0);
+        }
+        return sum;
+    }
+
+    /** Calls {@code Results.mapSuccess} and {@code Results.orElse}. */
+    @Benchmark
+    public long staticHelpers() {
+        long sum = 0;
+        for (Result<Integer, String> result : this.results) {
+            sum += Results.orElse(Results.mapSuccess(result, DOUBLE), 0);
+        }
+        return sum;
+    }
+
+    /** Third-party result that computes the actual result the first time it is needed. */
+    static final class LazyResult<S, F> implements Result<S, F> {
+
+        private Supplier<Result<S, F>> supplier;
+        private Result<S, F> result;
+
+        LazyResult(Supplier<Result<S, F>> supplier) {
+            this.supplier = supplier;
+        }
+
+        private Result<S, F> get() {
+            if (this.result == null) {
+                this.result = this.supplier.get();
+                this.supplier = null;
+            }
+            return this.result;
+        }
+
+        @Override
+        public Optional<S> getSuccess() {
+            return this.get().getSuccess();
+        }
+
+        @Override
+        public Optional<F> getFailure() {
+            return this.get().getFailure();
+        }
+
+        @Override
+        public boolean hasSuccess() {
+            return this.get().hasSuccess();
+        }
+
+        @Override
+        public boolean hasFailure() {
+            return this.get().hasFailure();
+        }
+
+        @Override
+        public S orElse(S other) {
+            return this.get().orElse(other);
+        }
+
+        @Override
+        public S orElseMap(Function<? super F, ? extends S> mapper) {
+            return this.get().orElseMap(mapper);
+        }
+
+        @Override
+        public Stream<S> streamSuccess() {
+            return this.get().streamSuccess();
+        }
+
+        @Override
+        public Stream<F> streamFailure() {
+            return this.get().streamFailure();
+        }
+
+        @Override
+        public Result<S, F> ifSuccess(Consumer<? super S> action) {
+            return this.get().ifSuccess(action);
+        }
+
+        @Override
+        public Result<S, F> ifSuccessOrElse(Consumer<? super S> successAction, Consumer<? super F> failureAction) {
+            return this.get().ifSuccessOrElse(successAction, failureAction);
+        }
+
+        @Override
+        public Result<S, F> ifFailure(Consumer<? super F> action) {
+            return this.get().ifFailure(action);
+        }
+
+        @Override
+        public Result<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+            return this.get().filter(isAcceptable, mapper);
+        }
+
+        @Override
+        public Result<S, F> recover(Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+            return this.get().recover(isRecoverable, mapper);
+        }
+
+        @Override
+        public <S2, F2> Result<S2, F2> map(
+                Function<? super S, ? extends S2> successMapper, Function<? super F, ? extends F2> failureMapper) {
+            return this.get().map(successMapper, failureMapper);
+        }
+
+        @Override
+        public <S2> Result<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+            return this.get().mapSuccess(mapper);
+        }
+
+        @Override
+        public <F2> Result<S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+            return this.get().mapFailure(mapper);
+        }
+
+        @Override
+        public <S2, F2> Result<S2, F2> flatMap(
+                Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+                Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper) {
+            return this.get().flatMap(successMapper, failureMapper);
+        }
+
+        @Override
+        public <S2> Result<S2, F> flatMapSuccess(
+                Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper) {
+            return this.get().flatMapSuccess(mapper);
+        }
+
+        @Override
+        public <F2> Result<S, F2> flatMapFailure(
+                Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper) {
+            return this.get().flatMapFailure(mapper);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Canonical result chains that are expected to allocate nothing once compiled by C2.
+ * <p>
+ * Results created and consumed within the same method should be scalar-replaced by escape analysis, as long as every
+ * method in the chain gets inlined. The {@code jmhAllocationCheck} task fails if any of these benchmarks reports a
+ * normalized allocation rate above the configured threshold, which usually means that some method grew too large to be
+ * inlined.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EscapeAnalysisBenchmark {
+
+    String success = "SUCCESS";
+    String failure = "FAILURE";
+    String nothing = null;
+
+    @Benchmark
+    public int successMapSuccessOrElse() {
+        return Results.<String, String>success(this.success).mapSuccess(String::length).orElse(0);
+    }
+
+    @Benchmark
+    public int failureMapFailureOrElseMap() {
+        return Results.<Integer, String>failure(this.failure).mapFailure(String::length).orElseMap(x -> -x);
+    }
+
+    @Benchmark
+    public int successFilterMap() {
+        return Results.<String, String>success(this.success)
+                .filter(x -> x.length() > 3, x -> this.failure)
+                .map(String::length, String::length)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int failureRecoverOrElse() {
+        return Results.<String, String>failure(this.failure)
+                .recover(x -> true, String::toString)
+                .orElse(this.success)
+                .length();
+    }
+
+    @Benchmark
+    public int successFlatMapSuccess() {
+        return Results.<String, String>success(this.success)
+                .flatMapSuccess(x -> Results.<Integer, String>success(x.length()))
+                .orElse(0);
+    }
+
+    @Benchmark
+    public boolean ofNullableHasSuccess() {
+        return Results.ofNullable(this.nothing, this.failure).hasSuccess();
+    }
+
+    @Benchmark
+    public int ofFunctionOrElse() {
+        return Results.ofFunction(String::length, this.success).orElse(0);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Compares different ways of signaling failure across failure rates.
+ * <p>
+ * Each invocation parses a fixed set of inputs, a given percentage of which are invalid, and sums the parsed values
+ * after a small transformation. Invalid inputs contribute zero to the sum.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(FailureRateBenchmark.INPUTS)
+public class FailureRateBenchmark {
+
+    static final int INPUTS = 1024;
+
+    private static final InvalidInputException STACKLESS = new InvalidInputException(false);
+
+    @Param({"0", "1", "10", "25", "50", "100"})
+    int failureRate;
+
+    String[] inputs;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        this.inputs = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            final String digits = Integer.toString(random.nextInt(1_000_000));
+            this.inputs[i] = random.nextInt(100) < this.failureRate ? digits + "x" : digits;
+        }
+    }
+
+    /** Baseline: returns {@code null} for invalid inputs. */
+    @Benchmark
+    public long nullCheck() {
+        long sum = 0;
+        for (String input : this.inputs) {
+            final Integer value = parseNullable(input);
+            sum += value != null ? value * 2 : 0;
+        }
+        return sum;
+    }
+
+    /** Returns an empty {@code Optional} for invalid inputs. */
+    @Benchmark
+    public long optional() {
+        long sum = 0;
+        for (String input : this.inputs) {
+            sum += Optional.ofNullable(parseNullable(input)).map(x -> x * 2).orElse(0);
+        }
+        return sum;
+    }
+
+    /** Returns a failed {@code Result} for invalid inputs. */
+    @Benchmark
+    public long result() {
+        long sum = 0;
+        for (String input : this.inputs) {
+            sum += parseResult(input).mapSuccess(x -> x * 2).orElse(0);
+        }
+        return sum;
+    }
+
+    /** Wraps a method that throws exceptions with a full stack trace with {@code Results.ofCallable}. */
+    @Benchmark
+    public long resultOfCallable() {
+        long sum = 0;
+        for (String input : this.inputs) {
+            sum += Results.ofCallable(() -> parseOrThrow(input)).mapSuccess(x -> x * 2).orElse(0);
+        }
+        return sum;
+    }
+
+    /** Throws an exception with a full stack trace for invalid inputs. */
+    @Benchmark
+    public long exception() {
+        long sum = 0;
+        for (String input : this.inputs) {
+            try {
+                sum += parseOrThrow(input) * 2;
+            } catch (InvalidInputException e) {
+                sum += 0;
+            }
+        }
+        return sum;
+    }
+
+    /** Throws a preallocated exception without a stack trace for invalid inputs. */
+    @Benchmark
+    public long stacklessException() {
+        long sum = 0;
+        for (String input : this.inputs) {
+            try {
+                sum += parseOrThrowStackless(input) * 2;
+            } catch (InvalidInputException e) {
+                sum += 0;
+            }
+        }
+        return sum;
+    }
+
+    static Integer parseNullable(String input) {
+        int value = 0;
+        for (int i = 0; i < input.length(); i++) {
+            final int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) return null;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    static Result<Integer, String> parseResult(String input) {
+        final Integer value = parseNullable(input);
+        return value != null ? Results.success(value) : Results.failure(input);
+    }
+
+    static int parseOrThrow(String input) throws InvalidInputException {
+        final Integer value = parseNullable(input);
+        if (value == null) throw new InvalidInputException(true);
+        return value;
+    }
+
+    static int parseOrThrowStackless(String input) throws InvalidInputException {
+        final Integer value = parseNullable(input);
+        if (value == null) throw STACKLESS;
+        return value;
+    }
+
+    static final class InvalidInputException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        InvalidInputException(boolean writableStackTrace) {
+            super("Invalid input", null, false, writableStackTrace);
+        }
+    }
+}
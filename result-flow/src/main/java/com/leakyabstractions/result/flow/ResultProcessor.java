@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.flow;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * {@link Flow.Processor} that maps items through a {@link Result}-returning function.
+ * <p>
+ * Success values are published downstream, while failure values are routed to a side channel instead of cancelling
+ * the subscription. Since failures do not count towards downstream demand, the processor requests replacement items
+ * from upstream, in batches, so that backpressure is still honored end to end.
+ * <p>
+ * Optionally, the processor can stop at the first failure, cancelling upstream and completing downstream.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the upstream items
+ * @param <S> the success type of the {@code Result}
+ * @param <F> the failure type of the {@code Result}
+ */
+public final class ResultProcessor<T, S, F> implements Flow.Processor<T, S> {
+
+    static final int DEFAULT_BATCH_SIZE = 32;
+
+    private final Function<? super T, ? extends Result<? extends S, ? extends F>> mapper;
+    private final Consumer<? super F> failures;
+    private final int batchSize;
+    private final boolean stopAtFailure;
+
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscriber<? super S>> downstream = new AtomicReference<>();
+    /** Items requested from upstream and not yet received; or pending requests if not subscribed yet. */
+    private final AtomicLong outstanding = new AtomicLong();
+    private long replacements;
+    private volatile boolean done;
+    private Throwable error;
+    private volatile boolean terminated;
+    private boolean signaled;
+
+    private ResultProcessor(
+            Function<? super T, ? extends Result<? extends S, ? extends F>> mapper,
+            Consumer<? super F> failures,
+            int batchSize,
+            boolean stopAtFailure) {
+        this.mapper = mapper;
+        this.failures = failures;
+        this.batchSize = batchSize;
+        this.stopAtFailure = stopAtFailure;
+    }
+
+    /**
+     * Creates a new {@code ResultProcessor} that routes every failure to a side channel.
+     *
+     * @param <T> the type of the upstream items
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param mapper the mapping function that transforms upstream items into results
+     * @param failures the side channel that consumes failure values
+     * @return a new {@code ResultProcessor}
+     * @throws NullPointerException if either {@code mapper} or {@code failures} is {@code null}
+     */
+    public static <T, S, F> ResultProcessor<T, S, F> of(
+            Function<? super T, ? extends Result<? extends S, ? extends F>> mapper, Consumer<? super F> failures) {
+        return of(mapper, failures, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new {@code ResultProcessor} that routes every failure to a side channel.
+     *
+     * @param <T> the type of the upstream items
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param mapper the mapping function that transforms upstream items into results
+     * @param failures the side channel that consumes failure values
+     * @param batchSize the maximum number of replacement items to request from upstream at once
+     * @return a new {@code ResultProcessor}
+     * @throws NullPointerException if either {@code mapper} or {@code failures} is {@code null}
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    public static <T, S, F> ResultProcessor<T, S, F> of(
+            Function<? super T, ? extends Result<? extends S, ? extends F>> mapper,
+            Consumer<? super F> failures,
+            int batchSize) {
+        requireNonNull(mapper, "mapper");
+        requireNonNull(failures, "failures");
+        if (batchSize < 1) throw new IllegalArgumentException("batch size must be positive: " + batchSize);
+        return new ResultProcessor<>(mapper, failures, batchSize, false);
+    }
+
+    /**
+     * Creates a new {@code ResultProcessor} that stops at the first failure.
+     * <p>
+     * The first failure value is routed to the side channel; then upstream is cancelled and downstream is completed.
+     *
+     * @param <T> the type of the upstream items
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param mapper the mapping function that transforms upstream items into results
+     * @param failures the side channel that consumes the first failure value
+     * @return a new {@code ResultProcessor}
+     * @throws NullPointerException if either {@code mapper} or {@code failures} is {@code null}
+     */
+    public static <T, S, F> ResultProcessor<T, S, F> untilFailure(
+            Function<? super T, ? extends Result<? extends S, ? extends F>> mapper, Consumer<? super F> failures) {
+        requireNonNull(mapper, "mapper");
+        requireNonNull(failures, "failures");
+        return new ResultProcessor<>(mapper, failures, 1, true);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super S> subscriber) {
+        requireNonNull(subscriber, "subscriber");
+        if (!this.downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Rejected());
+            subscriber.onError(new IllegalStateException("ResultProcessor allows only a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Downstream());
+        if (this.terminated) this.signalTermination(subscriber);
+    }
+
+    @Override
+    public synchronized void onSubscribe(Flow.Subscription subscription) {
+        requireNonNull(subscription, "subscription");
+        if (this.done || !this.upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        final long pending = this.outstanding.get();
+        if (pending > 0) subscription.request(pending);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (this.done) return;
+        final Result<? extends S, ? extends F> result;
+        try {
+            result = requireNonNull(this.mapper.apply(item), "result returned by mapper");
+        } catch (RuntimeException e) {
+            this.upstream.get().cancel();
+            this.onError(e);
+            return;
+        }
+        if (this.outstanding.get() != Long.MAX_VALUE) this.outstanding.decrementAndGet();
+        if (result.hasSuccess()) {
+            this.downstream.get().onNext(result.orElse(null));
+        } else {
+            this.failures.accept(result.getFailure().get());
+            if (this.stopAtFailure) {
+                this.upstream.get().cancel();
+                this.onComplete();
+                return;
+            }
+            this.replacements++;
+        }
+        // Request replacements for dropped items, in batches, unless nothing else is coming
+        if (this.replacements > 0 && (this.replacements >= this.batchSize || this.outstanding.get() == 0)) {
+            final long n = this.replacements;
+            this.replacements = 0;
+            this.request(n);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        requireNonNull(throwable, "throwable");
+        if (this.done) return;
+        this.done = true;
+        this.error = throwable;
+        this.terminate();
+    }
+
+    @Override
+    public void onComplete() {
+        if (this.done) return;
+        this.done = true;
+        this.terminate();
+    }
+
+    private void terminate() {
+        this.terminated = true;
+        final Flow.Subscriber<? super S> subscriber = this.downstream.get();
+        if (subscriber != null) this.signalTermination(subscriber);
+    }
+
+    private synchronized void signalTermination(Flow.Subscriber<? super S> subscriber) {
+        // Make sure downstream is signaled only once
+        if (this.signaled) return;
+        this.signaled = true;
+        if (this.error == null) {
+            subscriber.onComplete();
+        } else {
+            subscriber.onError(this.error);
+        }
+    }
+
+    private synchronized void request(long n) {
+        final long previous = this.outstanding.getAndAccumulate(n, ResultProcessor::addCap);
+        final Flow.Subscription subscription = this.upstream.get();
+        if (subscription != null && previous != Long.MAX_VALUE) subscription.request(n);
+    }
+
+    private static long addCap(long a, long b) {
+        final long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private void cancel() {
+        this.done = true;
+        final Flow.Subscription subscription = this.upstream.get();
+        if (subscription != null) subscription.cancel();
+    }
+
+    private final class Downstream implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                ResultProcessor.this.onError(new IllegalArgumentException("non-positive request: " + n));
+                ResultProcessor.this.cancel();
+                return;
+            }
+            ResultProcessor.this.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            ResultProcessor.this.cancel();
+        }
+    }
+
+    private static final class Rejected implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            // Nothing to do
+        }
+
+        @Override
+        public void cancel() {
+            // Nothing to do
+        }
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * Java Flow support for results
+ * <p>
+ * This package adapts {@link java.util.concurrent.Flow Flow} pipelines that produce
+ * {@link com.leakyabstractions.result.api.Result Result} objects, so that downstream subscribers receive plain success
+ * values while failure values are routed to a side channel.
+ * <p>
+ * Backpressure is preserved: every failure that does not reach downstream is replaced by requesting a new item from
+ * upstream, and replacement requests are batched to amortize their cost.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see com.leakyabstractions.result.flow.ResultProcessor
+ */
+
+package com.leakyabstractions.result.flow;
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.flow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * Synchronous test publisher that emits a range of integers on demand and records the requests it receives.
+ *
+ * @author Guillermo Calvo
+ */
+class RangePublisher implements Flow.Publisher<Integer> {
+
+    final List<Long> requests = new ArrayList<>();
+    final int count;
+    boolean cancelled;
+
+    RangePublisher(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+
+            private int next;
+            private long demand;
+            private boolean emitting;
+
+            @Override
+            public void request(long n) {
+                RangePublisher.this.requests.add(n);
+                this.demand = Math.max(this.demand + n, this.demand);
+                if (this.emitting) return;
+                this.emitting = true;
+                while (this.demand > 0 && this.next < RangePublisher.this.count && !RangePublisher.this.cancelled) {
+                    this.demand--;
+                    subscriber.onNext(this.next++);
+                }
+                this.emitting = false;
+                if (this.next == RangePublisher.this.count && !RangePublisher.this.cancelled) {
+                    RangePublisher.this.cancelled = true;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                RangePublisher.this.cancelled = true;
+            }
+        });
+    }
+}
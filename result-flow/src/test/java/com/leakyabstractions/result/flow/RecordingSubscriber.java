@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.flow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test subscriber that records everything it receives.
+ *
+ * @author Guillermo Calvo
+ * @param <T> the type of the items
+ */
+class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+    final List<T> items = new ArrayList<>();
+    final CountDownLatch terminated = new CountDownLatch(1);
+    Flow.Subscription subscription;
+    Throwable error;
+    boolean completed;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+        this.items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        this.error = throwable;
+        this.terminated.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        this.completed = true;
+        this.terminated.countDown();
+    }
+
+    boolean await() throws InterruptedException {
+        return this.terminated.await(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.flow;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultProcessor#of(Function, java.util.function.Consumer)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultProcessor of")
+class ResultProcessor_of_Test {
+
+    private static final Function<Integer, Result<Integer, String>> EVEN =
+            x -> x % 2 == 0 ? success(x) : failure("odd " + x);
+
+    @Test
+    void should_throw_exception_when_invalid_arguments() {
+        // When
+        final Throwable thrown1 = catchThrowable(() -> ResultProcessor.of(null, x -> {}));
+        final Throwable thrown2 = catchThrowable(() -> ResultProcessor.of(EVEN, null));
+        final Throwable thrown3 = catchThrowable(() -> ResultProcessor.of(EVEN, x -> {}, 0));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+        assertThat(thrown3).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_route_failures_to_side_channel() {
+        // Given
+        final List<String> failures = new ArrayList<>();
+        final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(EVEN, failures::add);
+        final RangePublisher publisher = new RangePublisher(6);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        // When
+        subscriber.subscription.request(Long.MAX_VALUE);
+        // Then
+        assertThat(subscriber.items).containsExactly(0, 2, 4);
+        assertThat(failures).containsExactly("odd 1", "odd 3", "odd 5");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void should_honor_backpressure() {
+        // Given
+        final List<String> failures = new ArrayList<>();
+        final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(EVEN, failures::add, 4);
+        final RangePublisher publisher = new RangePublisher(100);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+        // When
+        subscriber.subscription.request(3);
+        // Then
+        assertThat(subscriber.items).containsExactly(0, 2, 4);
+        assertThat(failures).containsExactly("odd 1", "odd 3");
+        assertThat(publisher.requests.get(0)).isEqualTo(3L);
+        assertThat(subscriber.completed).isFalse();
+        // When
+        subscriber.subscription.request(2);
+        // Then
+        assertThat(subscriber.items).containsExactly(0, 2, 4, 6, 8);
+    }
+
+    @Test
+    void should_request_replacements_in_batches() {
+        // Given
+        final List<String> failures = new ArrayList<>();
+        final Function<Integer, Result<Integer, String>> mapper = x -> x < 20 ? failure("too small") : success(x);
+        final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(mapper, failures::add, 8);
+        final RangePublisher publisher = new RangePublisher(100);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+        // When
+        subscriber.subscription.request(16);
+        // Then
+        assertThat(subscriber.items).hasSize(16);
+        assertThat(subscriber.items.get(0)).isEqualTo(20);
+        assertThat(failures).hasSize(20);
+        assertThat(publisher.requests).containsExactly(16L, 8L, 8L, 4L);
+    }
+
+    @Test
+    void should_signal_error_when_mapper_throws_exception() {
+        // Given
+        final RuntimeException exception = new RuntimeException("boom");
+        final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(x -> {
+            throw exception;
+        }, x -> {});
+        final RangePublisher publisher = new RangePublisher(10);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        // When
+        subscriber.subscription.request(1);
+        // Then
+        assertThat(subscriber.error).isSameAs(exception);
+        assertThat(publisher.cancelled).isTrue();
+    }
+
+    @Test
+    void should_signal_error_when_invalid_request() {
+        // Given
+        final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(EVEN, x -> {});
+        final RangePublisher publisher = new RangePublisher(10);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        // When
+        subscriber.subscription.request(0);
+        // Then
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(publisher.cancelled).isTrue();
+    }
+
+    @Test
+    void should_stop_when_cancelled() {
+        // Given
+        final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(EVEN, x -> {});
+        final RangePublisher publisher = new RangePublisher(10);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.cancel();
+        // When
+        publisher.subscribe(processor);
+        processor.onNext(0);
+        processor.onComplete();
+        // Then
+        assertThat(subscriber.items).isEmpty();
+        assertThat(subscriber.completed).isFalse();
+        assertThat(publisher.cancelled).isTrue();
+    }
+
+    @Test
+    void should_reject_second_subscriber_and_subscription() {
+        // Given
+        final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(EVEN, x -> {});
+        final RangePublisher publisher1 = new RangePublisher(10);
+        final RangePublisher publisher2 = new RangePublisher(10);
+        final RecordingSubscriber<Integer> subscriber1 = new RecordingSubscriber<>();
+        final RecordingSubscriber<Integer> subscriber2 = new RecordingSubscriber<>();
+        processor.subscribe(subscriber1);
+        publisher1.subscribe(processor);
+        // When
+        processor.subscribe(subscriber2);
+        publisher2.subscribe(processor);
+        subscriber2.subscription.request(1);
+        subscriber2.subscription.cancel();
+        // Then
+        assertThat(subscriber2.error).isInstanceOf(IllegalStateException.class);
+        assertThat(publisher1.cancelled).isFalse();
+        assertThat(publisher2.cancelled).isTrue();
+    }
+
+    @Test
+    void should_signal_termination_to_late_subscriber() {
+        // Given
+        final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(EVEN, x -> {});
+        final RuntimeException exception = new RuntimeException("boom");
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        processor.onError(exception);
+        processor.onError(new RuntimeException("ignored"));
+        // When
+        processor.subscribe(subscriber);
+        // Then
+        assertThat(subscriber.error).isSameAs(exception);
+    }
+
+    @Test
+    void should_work_asynchronously() throws InterruptedException {
+        // Given
+        final List<String> failures = new ArrayList<>();
+        final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(EVEN, failures::add);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        // When
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            subscriber.subscription.request(Long.MAX_VALUE);
+            for (int i = 0; i < 1000; i++) {
+                publisher.submit(i);
+            }
+        }
+        // Then
+        assertThat(subscriber.await()).isTrue();
+        assertThat(subscriber.items).hasSize(500);
+        assertThat(failures).hasSize(500);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.flow;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultProcessor#untilFailure(Function, java.util.function.Consumer)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultProcessor untilFailure")
+class ResultProcessor_untilFailure_Test {
+
+    private static final Function<Integer, Result<Integer, String>> SMALL =
+            x -> x < 3 ? success(x) : failure("too big: " + x);
+
+    @Test
+    void should_throw_exception_when_invalid_arguments() {
+        // When
+        final Throwable thrown1 = catchThrowable(() -> ResultProcessor.untilFailure(null, x -> {}));
+        final Throwable thrown2 = catchThrowable(() -> ResultProcessor.untilFailure(SMALL, null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_stop_at_first_failure() {
+        // Given
+        final List<String> failures = new ArrayList<>();
+        final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.untilFailure(SMALL, failures::add);
+        final RangePublisher publisher = new RangePublisher(10);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        // When
+        subscriber.subscription.request(Long.MAX_VALUE);
+        // Then
+        assertThat(subscriber.items).containsExactly(0, 1, 2);
+        assertThat(failures).containsExactly("too big: 3");
+        assertThat(subscriber.completed).isTrue();
+        assertThat(publisher.cancelled).isTrue();
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Reads JSON values from a {@link Reader}, one token at a time.
+ * <p>
+ * No intermediate trees are built. Instances are not thread-safe.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public final class JsonReader {
+
+    /** Type of a JSON token. */
+    public enum Token {
+        /** The beginning of a JSON object. */
+        BEGIN_OBJECT,
+        /** The end of a JSON object. */
+        END_OBJECT,
+        /** The beginning of a JSON array. */
+        BEGIN_ARRAY,
+        /** The end of a JSON array. */
+        END_ARRAY,
+        /** The name of a member of a JSON object. */
+        NAME,
+        /** A JSON string. */
+        STRING,
+        /** A JSON number. */
+        NUMBER,
+        /** A JSON boolean. */
+        BOOLEAN,
+        /** A JSON null. */
+        NULL,
+        /** The end of the JSON document. */
+        END_DOCUMENT
+    }
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private final Reader in;
+    private final char[] buffer = new char[1024];
+    private final StringBuilder chars = new StringBuilder();
+    private int position;
+    private int limit;
+    private long offset;
+    private int[] stack = new int[8];
+    private int depth = 1;
+    private Token peeked;
+    private boolean peekedBoolean;
+
+    /**
+     * Creates a new {@code JsonReader}.
+     *
+     * @param in the {@code Reader} to read JSON from
+     * @throws NullPointerException if {@code in} is {@code null}
+     */
+    public JsonReader(Reader in) {
+        this.in = requireNonNull(in, "reader");
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Returns the type of the next token without consuming it.
+     *
+     * @return the type of the next token
+     * @throws IOException if an I/O error occurs or the JSON is malformed
+     */
+    public Token peek() throws IOException {
+        if (this.peeked == null) this.peeked = this.doPeek();
+        return this.peeked;
+    }
+
+    /**
+     * Returns whether the current JSON object or array has more elements.
+     *
+     * @return {@code true} if there are more elements; {@code false} otherwise
+     * @throws IOException if an I/O error occurs or the JSON is malformed
+     */
+    public boolean hasNext() throws IOException {
+        final Token token = this.peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the beginning of a JSON object.
+     *
+     * @throws IOException if an I/O error occurs or the next token is not the beginning of an object
+     */
+    public void beginObject() throws IOException {
+        this.expect(Token.BEGIN_OBJECT);
+        this.push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Consumes the end of a JSON object.
+     *
+     * @throws IOException if an I/O error occurs or the next token is not the end of an object
+     */
+    public void endObject() throws IOException {
+        this.expect(Token.END_OBJECT);
+        this.depth--;
+    }
+
+    /**
+     * Consumes the beginning of a JSON array.
+     *
+     * @throws IOException if an I/O error occurs or the next token is not the beginning of an array
+     */
+    public void beginArray() throws IOException {
+        this.expect(Token.BEGIN_ARRAY);
+        this.push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Consumes the end of a JSON array.
+     *
+     * @throws IOException if an I/O error occurs or the next token is not the end of an array
+     */
+    public void endArray() throws IOException {
+        this.expect(Token.END_ARRAY);
+        this.depth--;
+    }
+
+    /**
+     * Consumes the name of a member of a JSON object.
+     *
+     * @return the name of the member
+     * @throws IOException if an I/O error occurs or the next token is not a name
+     */
+    public String nextName() throws IOException {
+        this.expect(Token.NAME);
+        return this.readString();
+    }
+
+    /**
+     * Consumes a JSON string.
+     *
+     * @return the string value
+     * @throws IOException if an I/O error occurs or the next token is not a string
+     */
+    public String nextString() throws IOException {
+        this.expect(Token.STRING);
+        return this.readString();
+    }
+
+    /**
+     * Consumes a JSON number as a {@code long}.
+     *
+     * @return the numeric value
+     * @throws IOException if an I/O error occurs or the next token is not an integral number
+     */
+    public long nextLong() throws IOException {
+        this.expect(Token.NUMBER);
+        final String number = this.readNumber();
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            throw this.syntaxError("Expected a long but was " + number);
+        }
+    }
+
+    /**
+     * Consumes a JSON number as an {@code int}.
+     *
+     * @return the numeric value
+     * @throws IOException if an I/O error occurs or the next token is not an integral number
+     */
+    public int nextInt() throws IOException {
+        final long value = this.nextLong();
+        if (value != (int) value) throw this.syntaxError("Expected an int but was " + value);
+        return (int) value;
+    }
+
+    /**
+     * Consumes a JSON number as a {@code double}.
+     *
+     * @return the numeric value
+     * @throws IOException if an I/O error occurs or the next token is not a number
+     */
+    public double nextDouble() throws IOException {
+        this.expect(Token.NUMBER);
+        final String number = this.readNumber();
+        try {
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw this.syntaxError("Expected a double but was " + number);
+        }
+    }
+
+    /**
+     * Consumes a JSON boolean.
+     *
+     * @return the boolean value
+     * @throws IOException if an I/O error occurs or the next token is not a boolean
+     */
+    public boolean nextBoolean() throws IOException {
+        this.expect(Token.BOOLEAN);
+        return this.peekedBoolean;
+    }
+
+    /**
+     * Consumes a JSON null.
+     *
+     * @throws IOException if an I/O error occurs or the next token is not a null
+     */
+    public void nextNull() throws IOException {
+        this.expect(Token.NULL);
+    }
+
+    /**
+     * Consumes the next JSON value, including nested objects and arrays.
+     *
+     * @throws IOException if an I/O error occurs or the next token is not a value
+     */
+    public void skipValue() throws IOException {
+        int count = 0;
+        do {
+            switch (this.peek()) {
+                case BEGIN_OBJECT:
+                    this.beginObject();
+                    count++;
+                    break;
+                case BEGIN_ARRAY:
+                    this.beginArray();
+                    count++;
+                    break;
+                case END_OBJECT:
+                    if (count == 0) throw this.syntaxError("Expected a value");
+                    this.endObject();
+                    count--;
+                    break;
+                case END_ARRAY:
+                    if (count == 0) throw this.syntaxError("Expected a value");
+                    this.endArray();
+                    count--;
+                    break;
+                case NAME:
+                    if (count == 0) throw this.syntaxError("Expected a value");
+                    this.nextName();
+                    break;
+                case STRING:
+                    this.nextString();
+                    break;
+                case NUMBER:
+                    this.peeked = null;
+                    this.readNumber();
+                    break;
+                case END_DOCUMENT:
+                    throw this.syntaxError("Unexpected end of document");
+                default:
+                    this.peeked = null;
+            }
+        } while (count > 0);
+    }
+
+    private void expect(Token expected) throws IOException {
+        final Token token = this.peek();
+        if (token != expected) throw this.syntaxError("Expected " + expected + " but was " + token);
+        this.peeked = null;
+    }
+
+    private void push(int scope) {
+        if (this.depth == this.stack.length) this.stack = Arrays.copyOf(this.stack, this.depth * 2);
+        this.stack[this.depth++] = scope;
+    }
+
+    private Token doPeek() throws IOException {
+        final int scope = this.stack[this.depth - 1];
+        switch (scope) {
+            case EMPTY_ARRAY:
+                this.stack[this.depth - 1] = NONEMPTY_ARRAY;
+                if (this.nextNonWhitespace() == ']') return Token.END_ARRAY;
+                this.position--;
+                break;
+            case NONEMPTY_ARRAY:
+                final int separator = this.nextNonWhitespace();
+                if (separator == ']') return Token.END_ARRAY;
+                if (separator != ',') throw this.syntaxError("Unterminated array");
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                this.stack[this.depth - 1] = DANGLING_NAME;
+                if (scope == NONEMPTY_OBJECT) {
+                    final int next = this.nextNonWhitespace();
+                    if (next == '}') return Token.END_OBJECT;
+                    if (next != ',') throw this.syntaxError("Unterminated object");
+                }
+                final int quote = this.nextNonWhitespace();
+                if (quote == '"') return Token.NAME;
+                if (quote == '}' && scope == EMPTY_OBJECT) return Token.END_OBJECT;
+                throw this.syntaxError("Expected name");
+            case DANGLING_NAME:
+                this.stack[this.depth - 1] = NONEMPTY_OBJECT;
+                if (this.nextNonWhitespace() != ':') throw this.syntaxError("Expected ':'");
+                break;
+            case EMPTY_DOCUMENT:
+                this.stack[this.depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default:
+                if (this.nextNonWhitespaceOrEnd() == -1) return Token.END_DOCUMENT;
+                throw this.syntaxError("Expected end of document");
+        }
+        final int c = this.nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                return Token.STRING;
+            case 't':
+                this.literal("rue");
+                this.peekedBoolean = true;
+                return Token.BOOLEAN;
+            case 'f':
+                this.literal("alse");
+                this.peekedBoolean = false;
+                return Token.BOOLEAN;
+            case 'n':
+                this.literal("ull");
+                return Token.NULL;
+            default:
+                if (c != '-' && (c < '0' || c > '9')) throw this.syntaxError("Unexpected character");
+                this.position--;
+                return Token.NUMBER;
+        }
+    }
+
+    private void literal(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (this.next() != rest.charAt(i)) throw this.syntaxError("Unexpected character");
+        }
+    }
+
+    private String readString() throws IOException {
+        final StringBuilder string = this.chars;
+        string.setLength(0);
+        while (true) {
+            int start = this.position;
+            while (this.position < this.limit) {
+                final char c = this.buffer[this.position++];
+                if (c == '"') {
+                    string.append(this.buffer, start, this.position - start - 1);
+                    return string.toString();
+                }
+                if (c == '\\') {
+                    string.append(this.buffer, start, this.position - start - 1);
+                    string.append(this.escape());
+                    start = this.position;
+                }
+            }
+            string.append(this.buffer, start, this.position - start);
+            if (!this.fill()) throw this.syntaxError("Unterminated string");
+        }
+    }
+
+    private char escape() throws IOException {
+        final int c = this.next();
+        switch (c) {
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(this.next(), 16);
+                    if (digit < 0) throw this.syntaxError("Invalid escape sequence");
+                    value = value << 4 | digit;
+                }
+                return (char) value;
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            default:
+                throw this.syntaxError("Invalid escape sequence");
+        }
+    }
+
+    private String readNumber() throws IOException {
+        final StringBuilder number = this.chars;
+        number.setLength(0);
+        while (this.position < this.limit || this.fill()) {
+            final char c = this.buffer[this.position];
+            if ((c < '0' || c > '9') && c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') break;
+            number.append(c);
+            this.position++;
+        }
+        return number.toString();
+    }
+
+    private int next() throws IOException {
+        if (this.position == this.limit && !this.fill()) throw this.syntaxError("Unexpected end of input");
+        return this.buffer[this.position++];
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        final int c = this.nextNonWhitespaceOrEnd();
+        if (c == -1) throw this.syntaxError("Unexpected end of input");
+        return c;
+    }
+
+    private int nextNonWhitespaceOrEnd() throws IOException {
+        while (this.position < this.limit || this.fill()) {
+            final char c = this.buffer[this.position++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') return c;
+        }
+        return -1;
+    }
+
+    private boolean fill() throws IOException {
+        this.offset += this.limit;
+        this.position = 0;
+        this.limit = 0;
+        final int read = this.in.read(this.buffer, 0, this.buffer.length);
+        if (read <= 0) return false;
+        this.limit = read;
+        return true;
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message + " at offset " + (this.offset + this.position));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.json;
+
+import java.io.IOException;
+
+/**
+ * Reads values held by {@link com.leakyabstractions.result.api.Result Result} objects from JSON.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the values
+ * @see ResultJsonReader
+ */
+@FunctionalInterface
+public interface JsonValueReader<T> {
+
+    /**
+     * Reads a value from JSON.
+     *
+     * @param reader the {@code JsonReader} to read from
+     * @return the value read
+     * @throws IOException if an I/O error occurs or the JSON is malformed
+     */
+    T read(JsonReader reader) throws IOException;
+
+    /**
+     * Returns a value reader that reads JSON strings.
+     *
+     * @return a value reader for {@code String} values
+     */
+    static JsonValueReader<String> ofString() {
+        return JsonReader::nextString;
+    }
+
+    /**
+     * Returns a value reader that reads integral JSON numbers.
+     *
+     * @return a value reader for {@code Long} values
+     */
+    static JsonValueReader<Long> ofLong() {
+        return JsonReader::nextLong;
+    }
+
+    /**
+     * Returns a value reader that reads integral JSON numbers.
+     *
+     * @return a value reader for {@code Integer} values
+     */
+    static JsonValueReader<Integer> ofInteger() {
+        return JsonReader::nextInt;
+    }
+
+    /**
+     * Returns a value reader that reads JSON numbers.
+     *
+     * @return a value reader for {@code Double} values
+     */
+    static JsonValueReader<Double> ofDouble() {
+        return JsonReader::nextDouble;
+    }
+
+    /**
+     * Returns a value reader that reads JSON booleans.
+     *
+     * @return a value reader for {@code Boolean} values
+     */
+    static JsonValueReader<Boolean> ofBoolean() {
+        return JsonReader::nextBoolean;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.json;
+
+import java.io.IOException;
+
+/**
+ * Writes values held by {@link com.leakyabstractions.result.api.Result Result} objects as JSON.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the values
+ * @see ResultJsonWriter
+ */
+@FunctionalInterface
+public interface JsonValueWriter<T> {
+
+    /**
+     * Writes a value as JSON.
+     *
+     * @param value the value to write
+     * @param writer the {@code JsonWriter} to write to
+     * @throws IOException if an I/O error occurs
+     */
+    void write(T value, JsonWriter writer) throws IOException;
+
+    /**
+     * Returns a value writer that writes strings as JSON strings.
+     *
+     * @return a value writer for {@code String} values
+     */
+    static JsonValueWriter<String> ofString() {
+        return (value, writer) -> writer.value(value);
+    }
+
+    /**
+     * Returns a value writer that writes integral numbers as JSON numbers.
+     *
+     * @return a value writer for {@code Long} values
+     */
+    static JsonValueWriter<Long> ofLong() {
+        return (value, writer) -> writer.value((long) value);
+    }
+
+    /**
+     * Returns a value writer that writes integral numbers as JSON numbers.
+     *
+     * @return a value writer for {@code Integer} values
+     */
+    static JsonValueWriter<Integer> ofInteger() {
+        return (value, writer) -> writer.value((long) value);
+    }
+
+    /**
+     * Returns a value writer that writes floating-point numbers as JSON numbers.
+     *
+     * @return a value writer for {@code Double} values
+     */
+    static JsonValueWriter<Double> ofDouble() {
+        return (value, writer) -> writer.value((double) value);
+    }
+
+    /**
+     * Returns a value writer that writes booleans as JSON booleans.
+     *
+     * @return a value writer for {@code Boolean} values
+     */
+    static JsonValueWriter<Boolean> ofBoolean() {
+        return (value, writer) -> writer.value((boolean) value);
+    }
+}
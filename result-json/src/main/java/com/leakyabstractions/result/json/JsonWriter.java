@@ -0,0 +1,312 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Writes JSON values straight to a {@link Writer}, one token at a time.
+ * <p>
+ * No intermediate trees or strings are built. Instances are not thread-safe.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public final class JsonWriter implements Flushable {
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer out;
+    private final char[] digits = new char[20];
+    private int[] stack = new int[8];
+    private int depth = 1;
+
+    /**
+     * Creates a new {@code JsonWriter}.
+     *
+     * @param out the {@code Writer} to write JSON to
+     * @throws NullPointerException if {@code out} is {@code null}
+     */
+    public JsonWriter(Writer out) {
+        this.out = requireNonNull(out, "writer");
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Begins a JSON object.
+     *
+     * @return this {@code JsonWriter}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if a value cannot be written at this point
+     */
+    public JsonWriter beginObject() throws IOException {
+        this.beforeValue();
+        this.push(EMPTY_OBJECT);
+        this.out.write('{');
+        return this;
+    }
+
+    /**
+     * Ends the current JSON object.
+     *
+     * @return this {@code JsonWriter}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if there is no object to end
+     */
+    public JsonWriter endObject() throws IOException {
+        final int scope = this.peek();
+        if (scope != EMPTY_OBJECT && scope != NONEMPTY_OBJECT) throw new IllegalStateException("Not in an object");
+        this.depth--;
+        this.out.write('}');
+        return this;
+    }
+
+    /**
+     * Begins a JSON array.
+     *
+     * @return this {@code JsonWriter}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if a value cannot be written at this point
+     */
+    public JsonWriter beginArray() throws IOException {
+        this.beforeValue();
+        this.push(EMPTY_ARRAY);
+        this.out.write('[');
+        return this;
+    }
+
+    /**
+     * Ends the current JSON array.
+     *
+     * @return this {@code JsonWriter}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if there is no array to end
+     */
+    public JsonWriter endArray() throws IOException {
+        final int scope = this.peek();
+        if (scope != EMPTY_ARRAY && scope != NONEMPTY_ARRAY) throw new IllegalStateException("Not in an array");
+        this.depth--;
+        this.out.write(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of a member of the current JSON object.
+     *
+     * @param name the name of the member
+     * @return this {@code JsonWriter}
+     * @throws NullPointerException if {@code name} is {@code null}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if a name cannot be written at this point
+     */
+    public JsonWriter name(String name) throws IOException {
+        requireNonNull(name, "name");
+        final int scope = this.peek();
+        if (scope == NONEMPTY_OBJECT) {
+            this.out.write(',');
+        } else if (scope != EMPTY_OBJECT) {
+            throw new IllegalStateException("Not expecting a name");
+        }
+        this.stack[this.depth - 1] = DANGLING_NAME;
+        this.string(name);
+        return this;
+    }
+
+    /**
+     * Writes a JSON string.
+     *
+     * @param value the string to write; {@code null} writes a JSON null
+     * @return this {@code JsonWriter}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if a value cannot be written at this point
+     */
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) return this.nullValue();
+        this.beforeValue();
+        this.string(value);
+        return this;
+    }
+
+    /**
+     * Writes a JSON number.
+     *
+     * @param value the number to write
+     * @return this {@code JsonWriter}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if a value cannot be written at this point
+     */
+    public JsonWriter value(long value) throws IOException {
+        this.beforeValue();
+        if (value == Long.MIN_VALUE) {
+            this.out.write("-9223372036854775808");
+            return this;
+        }
+        long remaining = Math.abs(value);
+        int position = this.digits.length;
+        do {
+            this.digits[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) this.digits[--position] = '-';
+        this.out.write(this.digits, position, this.digits.length - position);
+        return this;
+    }
+
+    /**
+     * Writes a JSON number.
+     *
+     * @param value the number to write
+     * @return this {@code JsonWriter}
+     * @throws IllegalArgumentException if {@code value} is either infinite or not a number
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if a value cannot be written at this point
+     */
+    public JsonWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Numeric values must be finite: " + value);
+        }
+        this.beforeValue();
+        this.out.write(Double.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a JSON boolean.
+     *
+     * @param value the boolean to write
+     * @return this {@code JsonWriter}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if a value cannot be written at this point
+     */
+    public JsonWriter value(boolean value) throws IOException {
+        this.beforeValue();
+        this.out.write(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes a JSON null.
+     *
+     * @return this {@code JsonWriter}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if a value cannot be written at this point
+     */
+    public JsonWriter nullValue() throws IOException {
+        this.beforeValue();
+        this.out.write("null");
+        return this;
+    }
+
+    /**
+     * Flushes the underlying {@link Writer}.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    private int peek() {
+        return this.stack[this.depth - 1];
+    }
+
+    private void push(int scope) {
+        if (this.depth == this.stack.length) this.stack = Arrays.copyOf(this.stack, this.depth * 2);
+        this.stack[this.depth++] = scope;
+    }
+
+    private void beforeValue() throws IOException {
+        switch (this.peek()) {
+            case EMPTY_DOCUMENT:
+                this.stack[this.depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+                this.stack[this.depth - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                this.out.write(',');
+                break;
+            case DANGLING_NAME:
+                this.stack[this.depth - 1] = NONEMPTY_OBJECT;
+                this.out.write(':');
+                break;
+            case NONEMPTY_DOCUMENT:
+                throw new IllegalStateException("JSON must have only one top-level value");
+            default:
+                throw new IllegalStateException("Expecting a name");
+        }
+    }
+
+    private void string(String value) throws IOException {
+        this.out.write('"');
+        final int length = value.length();
+        int last = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') continue;
+            if (last < i) this.out.write(value, last, i - last);
+            this.escape(c);
+            last = i + 1;
+        }
+        if (last < length) this.out.write(value, last, length - last);
+        this.out.write('"');
+    }
+
+    private void escape(char c) throws IOException {
+        this.out.write('\\');
+        switch (c) {
+            case '"':
+            case '\\':
+                this.out.write(c);
+                break;
+            case '\n':
+                this.out.write('n');
+                break;
+            case '\r':
+                this.out.write('r');
+                break;
+            case '\t':
+                this.out.write('t');
+                break;
+            case '\b':
+                this.out.write('b');
+                break;
+            case '\f':
+                this.out.write('f');
+                break;
+            default:
+                this.out.write('u');
+                this.out.write(HEX[c >> 12 & 0xF]);
+                this.out.write(HEX[c >> 8 & 0xF]);
+                this.out.write(HEX[c >> 4 & 0xF]);
+                this.out.write(HEX[c & 0xF]);
+        }
+    }
+}
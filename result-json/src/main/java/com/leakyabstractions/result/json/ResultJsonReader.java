@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Reads {@link Result} objects from JSON.
+ * <p>
+ * Successful results are read from {@code {"success": ...}} and failed results from {@code {"failure": ...}}. Values
+ * are read by pluggable {@link JsonValueReader JsonValueReaders}; other members are ignored.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the success type of the {@code Result}
+ * @param <F> the failure type of the {@code Result}
+ */
+public final class ResultJsonReader<S, F> {
+
+    private final JsonValueReader<? extends S> successReader;
+    private final JsonValueReader<? extends F> failureReader;
+
+    private ResultJsonReader(JsonValueReader<? extends S> successReader, JsonValueReader<? extends F> failureReader) {
+        this.successReader = successReader;
+        this.failureReader = failureReader;
+    }
+
+    /**
+     * Creates a new {@code ResultJsonReader}.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param successReader the value reader for success values
+     * @param failureReader the value reader for failure values
+     * @return a new {@code ResultJsonReader}
+     * @throws NullPointerException if either {@code successReader} or {@code failureReader} is {@code null}
+     */
+    public static <S, F> ResultJsonReader<S, F> of(
+            JsonValueReader<? extends S> successReader, JsonValueReader<? extends F> failureReader) {
+        requireNonNull(successReader, "success reader");
+        requireNonNull(failureReader, "failure reader");
+        return new ResultJsonReader<>(successReader, failureReader);
+    }
+
+    /**
+     * Reads a {@link Result} from a JSON value.
+     *
+     * @param reader the {@code JsonReader} to read from
+     * @return the {@code Result} read
+     * @throws NullPointerException if {@code reader} is {@code null}, or if the value read is {@code null}
+     * @throws IOException if an I/O error occurs or the JSON does not hold exactly one success or failure value
+     */
+    public Result<S, F> read(JsonReader reader) throws IOException {
+        Result<S, F> result = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            final boolean success = name.equals("success");
+            if (!success && !name.equals("failure")) {
+                reader.skipValue();
+                continue;
+            }
+            if (result != null) throw new IOException("Expected either success or failure but got both");
+            result = success
+                    ? Results.success(this.successReader.read(reader))
+                    : Results.failure(this.failureReader.read(reader));
+        }
+        reader.endObject();
+        if (result == null) throw new IOException("Expected either success or failure but got none");
+        return result;
+    }
+
+    /**
+     * Reads a {@link Result} from a JSON document.
+     *
+     * @param reader the {@code Reader} to read from
+     * @return the {@code Result} read
+     * @throws NullPointerException if {@code reader} is {@code null}, or if the value read is {@code null}
+     * @throws IOException if an I/O error occurs or the JSON does not hold exactly one success or failure value
+     */
+    public Result<S, F> read(Reader reader) throws IOException {
+        final JsonReader json = new JsonReader(reader);
+        final Result<S, F> result = this.read(json);
+        if (json.peek() != JsonReader.Token.END_DOCUMENT) throw new IOException("Expected end of document");
+        return result;
+    }
+
+    /**
+     * Reads a {@link Result} from a UTF-8 encoded JSON document.
+     *
+     * @param in the {@code InputStream} to read from
+     * @return the {@code Result} read
+     * @throws NullPointerException if {@code in} is {@code null}, or if the value read is {@code null}
+     * @throws IOException if an I/O error occurs or the JSON does not hold exactly one success or failure value
+     */
+    public Result<S, F> read(InputStream in) throws IOException {
+        return this.read(new InputStreamReader(requireNonNull(in, "input stream"), UTF_8));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Writes {@link Result} objects as JSON.
+ * <p>
+ * Successful results are written as {@code {"success": ...}} and failed results as {@code {"failure": ...}}. Values
+ * are written by pluggable {@link JsonValueWriter JsonValueWriters}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the success type of the {@code Result}
+ * @param <F> the failure type of the {@code Result}
+ */
+public final class ResultJsonWriter<S, F> {
+
+    private final JsonValueWriter<? super S> successWriter;
+    private final JsonValueWriter<? super F> failureWriter;
+
+    private ResultJsonWriter(JsonValueWriter<? super S> successWriter, JsonValueWriter<? super F> failureWriter) {
+        this.successWriter = successWriter;
+        this.failureWriter = failureWriter;
+    }
+
+    /**
+     * Creates a new {@code ResultJsonWriter}.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param successWriter the value writer for success values
+     * @param failureWriter the value writer for failure values
+     * @return a new {@code ResultJsonWriter}
+     * @throws NullPointerException if either {@code successWriter} or {@code failureWriter} is {@code null}
+     */
+    public static <S, F> ResultJsonWriter<S, F> of(
+            JsonValueWriter<? super S> successWriter, JsonValueWriter<? super F> failureWriter) {
+        requireNonNull(successWriter, "success writer");
+        requireNonNull(failureWriter, "failure writer");
+        return new ResultJsonWriter<>(successWriter, failureWriter);
+    }
+
+    /**
+     * Writes a {@link Result} as a JSON value.
+     *
+     * @param result the {@code Result} to write
+     * @param writer the {@code JsonWriter} to write to
+     * @throws NullPointerException if either {@code result} or {@code writer} is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Result<S, F> result, JsonWriter writer) throws IOException {
+        requireNonNull(result, "result");
+        writer.beginObject();
+        if (result.hasSuccess()) {
+            this.successWriter.write(result.orElse(null), writer.name("success"));
+        } else {
+            this.failureWriter.write(result.getFailure().get(), writer.name("failure"));
+        }
+        writer.endObject();
+    }
+
+    /**
+     * Writes a {@link Result} as a JSON document.
+     * <p>
+     * This creates a new {@link JsonWriter} on every call, so it is meant for writing a single result. To write many
+     * results, create one {@code JsonWriter} and pass it to {@link #write(Result, JsonWriter)} for each result, for
+     * example within a JSON array.
+     *
+     * @param result the {@code Result} to write
+     * @param writer the {@code Writer} to write to
+     * @throws NullPointerException if either {@code result} or {@code writer} is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Result<S, F> result, Writer writer) throws IOException {
+        this.write(result, new JsonWriter(writer));
+    }
+
+    /**
+     * Writes a {@link Result} as a UTF-8 encoded JSON document.
+     * <p>
+     * This creates a new UTF-8 encoder and {@link JsonWriter} on every call, so it is meant for writing a single
+     * result. To write many results to the same stream, wrap it once in an {@link OutputStreamWriter}, create one
+     * {@code JsonWriter} on top of it, and pass the latter to {@link #write(Result, JsonWriter)} for each result.
+     *
+     * @param result the {@code Result} to write
+     * @param out the {@code OutputStream} to write to
+     * @throws NullPointerException if either {@code result} or {@code out} is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Result<S, F> result, OutputStream out) throws IOException {
+        final Writer writer = new OutputStreamWriter(requireNonNull(out, "output stream"), UTF_8);
+        this.write(result, writer);
+        writer.flush();
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * Streaming JSON support for results
+ * <p>
+ * This package writes and reads {@link com.leakyabstractions.result.api.Result Result} objects as JSON envelopes
+ * without building intermediate trees, maps or strings, and without any third-party dependencies.
+ * <ul>
+ * <li>Successful results are represented as {@code {"success": ...}}
+ * <li>Failed results are represented as {@code {"failure": ...}}
+ * </ul>
+ * <p>
+ * Success and failure values are handled by pluggable {@link com.leakyabstractions.result.json.JsonValueWriter
+ * JsonValueWriter} and {@link com.leakyabstractions.result.json.JsonValueReader JsonValueReader} instances.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see com.leakyabstractions.result.json.ResultJsonWriter
+ * @see com.leakyabstractions.result.json.ResultJsonReader
+ */
+
+package com.leakyabstractions.result.json;
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link JsonReader}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("JsonReader")
+class JsonReader_Test {
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new StringReader(json));
+    }
+
+    @Test
+    void should_read_nested_values() throws IOException {
+        // Given
+        final JsonReader reader =
+                reader(" { \"a\" : -12 , \"b\" : [ 1.5e2, true, false, null, \"x\" ] , \"c\":{}, \"d\":[]}\n");
+        // When
+        reader.beginObject();
+        final String a = reader.nextName();
+        final long minus12 = reader.nextLong();
+        final String b = reader.nextName();
+        reader.beginArray();
+        final double number = reader.nextDouble();
+        final boolean yes = reader.nextBoolean();
+        final boolean no = reader.nextBoolean();
+        reader.nextNull();
+        final String x = reader.nextString();
+        final boolean more = reader.hasNext();
+        reader.endArray();
+        reader.nextName();
+        reader.beginObject();
+        reader.endObject();
+        reader.nextName();
+        reader.beginArray();
+        reader.endArray();
+        reader.endObject();
+        // Then
+        assertThat(a).isEqualTo("a");
+        assertThat(minus12).isEqualTo(-12L);
+        assertThat(b).isEqualTo("b");
+        assertThat(number).isEqualTo(150.0);
+        assertThat(yes).isTrue();
+        assertThat(no).isFalse();
+        assertThat(x).isEqualTo("x");
+        assertThat(more).isFalse();
+        assertThat(reader.peek()).isEqualTo(JsonReader.Token.END_DOCUMENT);
+    }
+
+    @Test
+    void should_read_escaped_strings() throws IOException {
+        // Given
+        final JsonReader reader = reader("\"\\\"\\\\\\/\\n\\r\\t\\b\\f\\u00e9\"");
+        // When
+        final String string = reader.nextString();
+        // Then
+        assertThat(string).isEqualTo("\"\\/\n\r\t\b\f\u00e9");
+    }
+
+    @Test
+    void should_read_long_strings() throws IOException {
+        // Given
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            builder.append(i % 100 == 0 ? "\\n" : "x");
+        }
+        final JsonReader reader = reader("[\"" + builder + "\"]");
+        // When
+        reader.beginArray();
+        final String string = reader.nextString();
+        // Then
+        assertThat(string).hasSize(3000);
+        assertThat(string).isEqualTo(builder.toString().replace("\\n", "\n"));
+    }
+
+    @Test
+    void should_skip_values() throws IOException {
+        // Given
+        final JsonReader reader = reader("[{\"a\":[1,{\"b\":null}],\"c\":\"d\"},true,2]");
+        // When
+        reader.beginArray();
+        reader.skipValue();
+        reader.skipValue();
+        final int two = reader.nextInt();
+        reader.endArray();
+        // Then
+        assertThat(two).isEqualTo(2);
+    }
+
+    @Test
+    void should_throw_exception_when_unexpected_token() {
+        // Given
+        final JsonReader reader = reader("[1]");
+        // When
+        final Throwable thrown = catchThrowable(reader::beginObject);
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(IOException.class)
+                .hasMessage("Expected BEGIN_OBJECT but was BEGIN_ARRAY at offset 1");
+    }
+
+    @Test
+    void should_throw_exception_when_malformed() {
+        final String[] malformed = {
+            "", "x", "[1 2]", "{\"a\" 1}", "{\"a\":1 \"b\":2}", "{1:2}", "\"abc", "\"\\x\"", "\"\\u12x4\"", "tru",
+            "[1,]", "[\"a\":1]"
+        };
+        for (String json : malformed) {
+            // When
+            final Throwable thrown = catchThrowable(() -> reader(json).skipValue());
+            // Then
+            assertThat(thrown).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void should_throw_exception_when_not_a_value() throws IOException {
+        // Given
+        final JsonReader reader1 = reader("[]");
+        final JsonReader reader2 = reader("{}");
+        final JsonReader reader3 = reader("{\"a\":1}");
+        reader1.beginArray();
+        reader2.beginObject();
+        reader3.beginObject();
+        // When
+        final Throwable thrown1 = catchThrowable(reader1::skipValue);
+        final Throwable thrown2 = catchThrowable(reader2::skipValue);
+        final Throwable thrown3 = catchThrowable(reader3::skipValue);
+        // Then
+        assertThat(thrown1).isInstanceOf(IOException.class);
+        assertThat(thrown2).isInstanceOf(IOException.class);
+        assertThat(thrown3).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_number() {
+        // Given
+        final JsonReader reader1 = reader("1.5");
+        final JsonReader reader2 = reader("--1");
+        final JsonReader reader3 = reader("12345678901");
+        // When
+        final Throwable thrown1 = catchThrowable(reader1::nextLong);
+        final Throwable thrown2 = catchThrowable(reader2::nextDouble);
+        final Throwable thrown3 = catchThrowable(reader3::nextInt);
+        // Then
+        assertThat(thrown1).isInstanceOf(IOException.class);
+        assertThat(thrown2).isInstanceOf(IOException.class);
+        assertThat(thrown3).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link JsonWriter}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("JsonWriter")
+class JsonWriter_Test {
+
+    @Test
+    void should_write_nested_values() throws IOException {
+        // Given
+        final StringWriter out = new StringWriter();
+        final JsonWriter writer = new JsonWriter(out);
+        // When
+        writer.beginObject()
+                .name("a").value(Long.MIN_VALUE)
+                .name("b").beginArray().value(0).value(-12).value(1.5).value(true).value(false).nullValue().endArray()
+                .name("c").value((String) null)
+                .name("d").beginObject().endObject()
+                .name("e").beginArray().endArray()
+                .endObject()
+                .flush();
+        // Then
+        assertThat(out.toString())
+                .isEqualTo("{\"a\":-9223372036854775808,\"b\":[0,-12,1.5,true,false,null],"
+                        + "\"c\":null,\"d\":{},\"e\":[]}");
+    }
+
+    @Test
+    void should_escape_strings() throws IOException {
+        // Given
+        final StringWriter out = new StringWriter();
+        // When
+        new JsonWriter(out).value("\"\\/\n\r\t\b\f\u0001\u2028\u2029\u00e9");
+        // Then
+        assertThat(out.toString()).isEqualTo("\"\\\"\\\\/\\n\\r\\t\\b\\f\\u0001\\u2028\\u2029\u00e9\"");
+    }
+
+    @Test
+    void should_grow_when_deeply_nested() throws IOException {
+        // Given
+        final StringWriter out = new StringWriter();
+        final JsonWriter writer = new JsonWriter(out);
+        // When
+        for (int i = 0; i < 20; i++) {
+            writer.beginArray();
+        }
+        for (int i = 0; i < 20; i++) {
+            writer.endArray();
+        }
+        // Then
+        assertThat(out.toString()).isEqualTo("[[[[[[[[[[[[[[[[[[[[]]]]]]]]]]]]]]]]]]]]");
+    }
+
+    @Test
+    void should_throw_exception_when_non_finite_number() {
+        // Given
+        final JsonWriter writer = new JsonWriter(new StringWriter());
+        // When
+        final Throwable thrown = catchThrowable(() -> writer.value(Double.NaN));
+        // Then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_two_top_level_values() throws IOException {
+        // Given
+        final JsonWriter writer = new JsonWriter(new StringWriter()).value(1);
+        // When
+        final Throwable thrown = catchThrowable(() -> writer.value(2));
+        // Then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_value_without_name() throws IOException {
+        // Given
+        final JsonWriter writer = new JsonWriter(new StringWriter()).beginObject();
+        // When
+        final Throwable thrown = catchThrowable(() -> writer.value(true));
+        // Then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_name_outside_object() throws IOException {
+        // Given
+        final JsonWriter writer = new JsonWriter(new StringWriter()).beginArray();
+        // When
+        final Throwable thrown = catchThrowable(() -> writer.name("name"));
+        // Then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_mismatched_end() throws IOException {
+        // Given
+        final JsonWriter writer = new JsonWriter(new StringWriter()).beginArray();
+        // When
+        final Throwable thrown1 = catchThrowable(writer::endObject);
+        final Throwable thrown2 = catchThrowable(() -> writer.endArray().endArray());
+        // Then
+        assertThat(thrown1).isInstanceOf(IllegalStateException.class);
+        assertThat(thrown2).isInstanceOf(IllegalStateException.class);
+    }
+}
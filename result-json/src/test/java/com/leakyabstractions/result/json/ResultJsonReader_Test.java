@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.json;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultJsonReader}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultJsonReader")
+class ResultJsonReader_Test {
+
+    private static final ResultJsonReader<String, Integer> READER = ResultJsonReader.of(
+            JsonValueReader.ofString(), JsonValueReader.ofInteger());
+
+    @Test
+    void should_throw_exception_when_null_value_reader() {
+        // When
+        final Throwable thrown = catchThrowable(() -> ResultJsonReader.of(null, JsonValueReader.ofString()));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_read_success() throws IOException {
+        // Given
+        final String json = "{\"success\":\"\u00a1Hola!\"}";
+        // When
+        final Result<String, Integer> result = READER.read(new StringReader(json));
+        // Then
+        assertThat(result).isEqualTo(success("\u00a1Hola!"));
+    }
+
+    @Test
+    void should_read_failure() throws IOException {
+        // Given
+        final byte[] json = "{\"failure\":404}".getBytes(StandardCharsets.UTF_8);
+        // When
+        final Result<String, Integer> result = READER.read(new ByteArrayInputStream(json));
+        // Then
+        assertThat(result).isEqualTo(failure(404));
+    }
+
+    @Test
+    void should_ignore_unknown_members() throws IOException {
+        // Given
+        final String json = "{\"status\":{\"code\":[1,2]},\"failure\":500,\"extra\":null}";
+        // When
+        final Result<String, Integer> result = READER.read(new StringReader(json));
+        // Then
+        assertThat(result).isEqualTo(failure(500));
+    }
+
+    @Test
+    void should_read_other_types() throws IOException {
+        // Given
+        final ResultJsonReader<Long, Boolean> reader1 = ResultJsonReader.of(
+                JsonValueReader.ofLong(), JsonValueReader.ofBoolean());
+        final ResultJsonReader<Double, Boolean> reader2 = ResultJsonReader.of(
+                JsonValueReader.ofDouble(), JsonValueReader.ofBoolean());
+        final JsonReader json =
+                new JsonReader(new StringReader("[{\"success\":123},{\"failure\":true},{\"success\":1.25}]"));
+        json.beginArray();
+        // When
+        final Result<Long, Boolean> result1 = reader1.read(json);
+        final Result<Long, Boolean> result2 = reader1.read(json);
+        final Result<Double, Boolean> result3 = reader2.read(json);
+        json.endArray();
+        // Then
+        assertThat(result1).isEqualTo(success(123L));
+        assertThat(result2).isEqualTo(failure(true));
+        assertThat(result3).isEqualTo(success(1.25));
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_envelope() {
+        final String[] invalid = {"{}", "{\"success\":\"a\",\"failure\":1}", "{\"success\":\"a\"} {}", "[]"};
+        for (String json : invalid) {
+            // When
+            final Throwable thrown = catchThrowable(() -> READER.read(new StringReader(json)));
+            // Then
+            assertThat(thrown).isInstanceOf(IOException.class);
+        }
+    }
+}
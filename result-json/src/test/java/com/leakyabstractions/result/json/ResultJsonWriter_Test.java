@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.json;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultJsonWriter}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultJsonWriter")
+class ResultJsonWriter_Test {
+
+    private static final ResultJsonWriter<String, Integer> WRITER = ResultJsonWriter.of(
+            JsonValueWriter.ofString(), JsonValueWriter.ofInteger());
+
+    @Test
+    void should_throw_exception_when_null_value_writer() {
+        // When
+        final Throwable thrown = catchThrowable(() -> ResultJsonWriter.of(JsonValueWriter.ofString(), null));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_write_success() throws IOException {
+        // Given
+        final Result<String, Integer> result = success("\u00a1Hola!");
+        final StringWriter out = new StringWriter();
+        // When
+        WRITER.write(result, out);
+        // Then
+        assertThat(out.toString()).isEqualTo("{\"success\":\"\u00a1Hola!\"}");
+    }
+
+    @Test
+    void should_write_failure() throws IOException {
+        // Given
+        final Result<String, Integer> result = failure(404);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // When
+        WRITER.write(result, out);
+        // Then
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("{\"failure\":404}");
+    }
+
+    @Test
+    void should_write_other_types() throws IOException {
+        // Given
+        final ResultJsonWriter<Long, Boolean> writer1 = ResultJsonWriter.of(
+                JsonValueWriter.ofLong(), JsonValueWriter.ofBoolean());
+        final ResultJsonWriter<Double, Boolean> writer2 = ResultJsonWriter.of(
+                JsonValueWriter.ofDouble(), JsonValueWriter.ofBoolean());
+        final StringWriter out = new StringWriter();
+        final JsonWriter json = new JsonWriter(out).beginArray();
+        // When
+        writer1.write(success(123L), json);
+        writer1.write(failure(true), json);
+        writer2.write(success(1.25), json);
+        json.endArray();
+        // Then
+        assertThat(out.toString()).isEqualTo("[{\"success\":123},{\"failure\":true},{\"success\":1.25}]");
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Loader that coalesces individual requests into bulk {@link Callable} tasks.
+ * <p>
+ * Keys are collected until either {@code maxBatchSize} distinct keys are pending or {@code maxDelay} has elapsed since
+ * the first pending key, whichever happens first. Then a single bulk task is executed for the whole batch, and each
+ * caller's {@link Result} is completed individually:
+ * <ul>
+ * <li>Keys mapped to a non-null value become successful results
+ * <li>Keys missing from the bulk response become failed results holding a {@link NoSuchElementException}
+ * <li>If the bulk task throws an exception, every key in the batch becomes a failed result holding that exception
+ * </ul>
+ * Concurrent requests for the same key within a batch share the same result. If the bulk task throws an error instead,
+ * every future in the batch is completed exceptionally.
+ * <p>
+ * Delays are timed by a {@link ScheduledExecutorService}. Unless one is supplied, a single daemon thread shared by all
+ * loaders is used.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class BatchLoader<K, V> implements AutoCloseable {
+
+    private final Function<? super Set<K>, ? extends Callable<? extends Map<K, ? extends V>>> bulk;
+    private final int maxBatchSize;
+    private final long maxDelay;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final Object lock = new Object();
+    private Map<K, CompletableFuture<Result<V, Exception>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> timer;
+    private boolean closed;
+
+    private BatchLoader(
+            Function<? super Set<K>, ? extends Callable<? extends Map<K, ? extends V>>> bulk,
+            int maxBatchSize,
+            long maxDelay,
+            Executor executor,
+            ScheduledExecutorService scheduler) {
+        this.bulk = bulk;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.executor = executor;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates a new {@code BatchLoader} that executes bulk tasks in the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @param bulk the function that creates a bulk task for a given set of keys
+     * @param maxBatchSize the maximum number of distinct keys per bulk task
+     * @param maxDelay the maximum time a key may wait before its batch is executed
+     * @param unit the time unit of {@code maxDelay}
+     * @return a new {@code BatchLoader}
+     * @throws NullPointerException if either {@code bulk} or {@code unit} is {@code null}
+     * @throws IllegalArgumentException if either {@code maxBatchSize} or {@code maxDelay} is not positive
+     */
+    public static <K, V> BatchLoader<K, V> of(
+            Function<? super Set<K>, ? extends Callable<? extends Map<K, ? extends V>>> bulk,
+            int maxBatchSize,
+            long maxDelay,
+            TimeUnit unit) {
+        return of(bulk, maxBatchSize, maxDelay, unit, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@code BatchLoader} that executes bulk tasks in a given {@link Executor}.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @param bulk the function that creates a bulk task for a given set of keys
+     * @param maxBatchSize the maximum number of distinct keys per bulk task
+     * @param maxDelay the maximum time a key may wait before its batch is executed
+     * @param unit the time unit of {@code maxDelay}
+     * @param executor the executor that runs bulk tasks
+     * @return a new {@code BatchLoader}
+     * @throws NullPointerException if any of {@code bulk}, {@code unit} or {@code executor} is {@code null}
+     * @throws IllegalArgumentException if either {@code maxBatchSize} or {@code maxDelay} is not positive
+     */
+    public static <K, V> BatchLoader<K, V> of(
+            Function<? super Set<K>, ? extends Callable<? extends Map<K, ? extends V>>> bulk,
+            int maxBatchSize,
+            long maxDelay,
+            TimeUnit unit,
+            Executor executor) {
+        return of(bulk, maxBatchSize, maxDelay, unit, executor, Scheduler.INSTANCE);
+    }
+
+    /**
+     * Creates a new {@code BatchLoader} that executes bulk tasks in a given {@link Executor}, and times delays with a
+     * given {@link ScheduledExecutorService}.
+     * <p>
+     * The caller owns {@code scheduler}. If it is shut down, batches that are not full are executed right away instead
+     * of waiting for the delay to elapse.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @param bulk the function that creates a bulk task for a given set of keys
+     * @param maxBatchSize the maximum number of distinct keys per bulk task
+     * @param maxDelay the maximum time a key may wait before its batch is executed
+     * @param unit the time unit of {@code maxDelay}
+     * @param executor the executor that runs bulk tasks
+     * @param scheduler the scheduler that flushes batches once {@code maxDelay} has elapsed
+     * @return a new {@code BatchLoader}
+     * @throws NullPointerException if any of {@code bulk}, {@code unit}, {@code executor} or {@code scheduler} is
+     *     {@code null}
+     * @throws IllegalArgumentException if either {@code maxBatchSize} or {@code maxDelay} is not positive
+     */
+    public static <K, V> BatchLoader<K, V> of(
+            Function<? super Set<K>, ? extends Callable<? extends Map<K, ? extends V>>> bulk,
+            int maxBatchSize,
+            long maxDelay,
+            TimeUnit unit,
+            Executor executor,
+            ScheduledExecutorService scheduler) {
+        requireNonNull(bulk, "bulk");
+        requireNonNull(unit, "unit");
+        requireNonNull(executor, "executor");
+        requireNonNull(scheduler, "scheduler");
+        if (maxBatchSize < 1) throw new IllegalArgumentException("max batch size must be positive: " + maxBatchSize);
+        if (maxDelay < 1) throw new IllegalArgumentException("max delay must be positive: " + maxDelay);
+        return new BatchLoader<>(bulk, maxBatchSize, unit.toNanos(maxDelay), executor, scheduler);
+    }
+
+    /**
+     * Requests the value associated to a given key.
+     *
+     * @param key the key whose value is requested
+     * @return a future that is completed with the result for {@code key} once its batch has been executed
+     * @throws NullPointerException if {@code key} is {@code null}
+     * @throws IllegalStateException if this loader is closed
+     */
+    public CompletableFuture<Result<V, Exception>> load(K key) {
+        requireNonNull(key, "key");
+        final CompletableFuture<Result<V, Exception>> future;
+        final Map<K, CompletableFuture<Result<V, Exception>>> batch;
+        synchronized (this.lock) {
+            if (this.closed) throw new IllegalStateException("BatchLoader is closed");
+            future = this.pending.computeIfAbsent(key, x -> new CompletableFuture<>());
+            if (this.pending.size() < this.maxBatchSize && this.schedule()) return future;
+            batch = this.take();
+        }
+        this.dispatch(batch);
+        return future;
+    }
+
+    /**
+     * Executes the pending keys right away, without waiting for the batch to fill up or the delay to elapse.
+     */
+    public void flush() {
+        final Map<K, CompletableFuture<Result<V, Exception>>> batch;
+        synchronized (this.lock) {
+            if (this.pending.isEmpty()) return;
+            batch = this.take();
+        }
+        this.dispatch(batch);
+    }
+
+    /**
+     * Executes the pending keys and rejects subsequent requests.
+     */
+    @Override
+    public void close() {
+        synchronized (this.lock) {
+            this.closed = true;
+        }
+        this.flush();
+    }
+
+    /** Makes sure the pending keys will be flushed, returning {@code false} if they cannot wait. */
+    private boolean schedule() {
+        if (this.timer != null) return true;
+        try {
+            this.timer = this.scheduler.schedule(this::flush, this.maxDelay, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException exception) {
+            return false;
+        }
+    }
+
+    private Map<K, CompletableFuture<Result<V, Exception>>> take() {
+        final Map<K, CompletableFuture<Result<V, Exception>>> batch = this.pending;
+        this.pending = new LinkedHashMap<>();
+        if (this.timer != null) {
+            this.timer.cancel(false);
+            this.timer = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<K, CompletableFuture<Result<V, Exception>>> batch) {
+        try {
+            this.executor.execute(() -> this.execute(batch));
+        } catch (RuntimeException exception) {
+            complete(batch, Results.failure(exception));
+        }
+    }
+
+    private void execute(Map<K, CompletableFuture<Result<V, Exception>>> batch) {
+        try {
+            final Set<K> keys = unmodifiableSet(batch.keySet());
+            final Result<Map<K, ? extends V>, Exception> values = Results.ofCallable(
+                    () -> requireNonNull(this.bulk.apply(keys).call(), "map returned by bulk task"));
+            if (!values.hasSuccess()) {
+                // Failed results hold no success value, so every key can share the same one
+                @SuppressWarnings("unchecked")
+                final Result<V, Exception> failure = (Result<V, Exception>) (Result<?, Exception>) values;
+                complete(batch, failure);
+                return;
+            }
+            final Map<K, ? extends V> map = values.orElse(null);
+            for (Map.Entry<K, CompletableFuture<Result<V, Exception>>> entry : batch.entrySet()) {
+                final V value = map.get(entry.getKey());
+                entry.getValue().complete(value != null
+                        ? Results.success(value)
+                        : Results.failure(new NoSuchElementException("No value for key: " + entry.getKey())));
+            }
+        } catch (Throwable throwable) { // NOSONAR
+            // Never leave callers waiting; futures that were already completed are not affected
+            for (CompletableFuture<Result<V, Exception>> future : batch.values()) {
+                future.completeExceptionally(throwable);
+            }
+            if (throwable instanceof Error) throw (Error) throwable;
+        }
+    }
+
+    private static <K, V> void complete(
+            Map<K, CompletableFuture<Result<V, Exception>>> batch, Result<V, Exception> failure) {
+        for (CompletableFuture<Result<V, Exception>> future : batch.values()) {
+            future.complete(failure);
+        }
+    }
+
+    private static final class Scheduler {
+
+        static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+                final Thread thread = new Thread(task, "result-batch-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Monitors the execution of tasks encapsulated as {@link Result} objects.
+ * <p>
+ * This version does nothing. On JDK 11 and later, the multi-release version of this class emits Java Flight Recorder
+ * events instead.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class CallableEvent {
+
+    private static final CallableEvent DISABLED = new CallableEvent();
+
+    private CallableEvent() {
+        // Use the factory method
+    }
+
+    /**
+     * Starts timing a task.
+     *
+     * @return the event that monitors the task
+     */
+    static CallableEvent begin() {
+        return DISABLED;
+    }
+
+    /**
+     * Stops timing the task.
+     *
+     * @param <R> the type of the {@code Result}
+     * @param result the outcome of the task, or {@code null} if it threw an exception that was not captured
+     * @return {@code result}
+     */
+    <R extends Result<?, ?>> R complete(R result) {
+        return result;
+    }
+}
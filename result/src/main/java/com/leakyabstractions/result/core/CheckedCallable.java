@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+/**
+ * Task that returns a value and may throw a checked exception of a given type.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the returned value
+ * @param <X> the type of the exception that may be thrown
+ * @see Results#ofCallable(CheckedCallable, Class)
+ */
+@FunctionalInterface
+public interface CheckedCallable<S, X extends Exception> {
+
+    /**
+     * Computes a value.
+     *
+     * @return the returned value
+     * @throws X if unable to produce a value
+     */
+    S call() throws X;
+}
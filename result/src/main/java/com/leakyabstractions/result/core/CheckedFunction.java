@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+/**
+ * Function that accepts one argument and may throw a checked exception.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <A> the type of the argument
+ * @param <S> the type of the returned value
+ * @param <X> the type of the exception that may be thrown
+ * @see Results#ofFunction(CheckedFunction, Object)
+ * @see Results#ofCallable(CheckedCallable, CheckedFunction, Class)
+ */
+@FunctionalInterface
+public interface CheckedFunction<A, S, X extends Exception> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param argument the argument
+     * @return the returned value
+     * @throws X if unable to produce a value
+     */
+    S apply(A argument) throws X;
+}
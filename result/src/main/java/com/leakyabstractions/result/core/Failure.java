@@ -36,7 +36,7 @@ import com.leakyabstractions.result.api.Result;
  */
 final class Failure<S, F> implements Result<S, F> {
 
-    private final F value;
+    final F value;
 
     Failure(F value) {
         this.value = value;
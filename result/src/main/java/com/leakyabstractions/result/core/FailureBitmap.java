@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * Fixed-size bitset that marks the failed rows of a {@link LongResultBatch} or a {@link DoubleResultBatch}.
+ * <p>
+ * Besides the bitset, this class holds the bookkeeping both batches share: the number of rows, index and capacity
+ * checks, and the allocation of heap or direct buffers.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class FailureBitmap {
+
+    private static final int MAX_SIZE = Integer.MAX_VALUE / Long.BYTES;
+
+    private final int size;
+    private final LongBuffer words;
+
+    private FailureBitmap(int size, LongBuffer words) {
+        this.size = size;
+        this.words = words;
+    }
+
+    static FailureBitmap allocate(int capacity, boolean direct) {
+        if (capacity < 0 || capacity > MAX_SIZE) throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        return new FailureBitmap(capacity, buffer((capacity + Long.SIZE - 1) >>> 6, direct).asLongBuffer());
+    }
+
+    /** Allocates a buffer of eight-byte slots, in native byte order. */
+    static ByteBuffer buffer(int slots, boolean direct) {
+        final int bytes = slots * Long.BYTES;
+        return (direct ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes)).order(ByteOrder.nativeOrder());
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean isDirect() {
+        return this.words.isDirect();
+    }
+
+    /** Returns a bitmap with fewer rows, sharing this bitmap's bits. */
+    FailureBitmap truncate(int size) {
+        return new FailureBitmap(size, this.words);
+    }
+
+    int words() {
+        return (this.size + Long.SIZE - 1) >>> 6;
+    }
+
+    long word(int index) {
+        return this.words.get(index);
+    }
+
+    void setWord(int index, long bits) {
+        this.words.put(index, bits);
+    }
+
+    boolean get(int index) {
+        this.checkIndex(index);
+        return (this.words.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    void set(int index) {
+        final int word = index >>> 6;
+        this.words.put(word, this.words.get(word) | (1L << index));
+    }
+
+    int cardinality() {
+        int count = 0;
+        for (int i = 0; i < this.words(); i++) {
+            count += Long.bitCount(this.words.get(i));
+        }
+        return count;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Bounded pool of canonical failed results.
+ * <p>
+ * Failed results are cached by failure value, so that equal failure values yield the same {@link Result} instance, at
+ * the cost of a hash lookup. The pool keeps up to a fixed number of distinct failure values; once it is full, caching a
+ * failure value not seen before evicts one that has not been looked up recently, following the CLOCK approximation of
+ * least-recently-used eviction. Lookups of cached failure values are lock-free; caching new ones takes a lock.
+ * <p>
+ * Failure values must be immutable, and must implement {@code equals} and {@code hashCode} consistently.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Results#internedFailure(Object)
+ */
+public final class FailurePool {
+
+    static final FailurePool DEFAULT = new FailurePool(4096);
+
+    private final ConcurrentMap<Object, Entry> failures;
+    private final int capacity;
+    /** Cached failure values, in the order the clock hand visits them; guarded by {@code this}. */
+    private Object[] keys = new Object[16];
+    private int count;
+    private int hand;
+
+    private FailurePool(int capacity) {
+        this.failures = new ConcurrentHashMap<>(Math.min(capacity, 4096));
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a new, empty pool.
+     *
+     * @param capacity the maximum number of failed results to keep
+     * @return the new pool
+     * @throws IllegalArgumentException if {@code capacity} is not between {@code 1} and {@code 2^30}
+     */
+    public static FailurePool of(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        return new FailurePool(capacity);
+    }
+
+    /**
+     * Returns a canonical failed {@link Result} holding a given failure value.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param failure the immutable failure value
+     * @return a failed {@code Result} holding a value equal to {@code failure}
+     * @throws NullPointerException if {@code failure} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <S, F> Result<S, F> failure(F failure) {
+        requireNonNull(failure, "failure value");
+        FailureTrace.record(failure);
+        final Entry cached = this.failures.get(failure);
+        if (cached != null) {
+            // Avoid writing to shared memory when the entry is already marked
+            if (!cached.referenced) cached.referenced = true;
+            return (Result<S, F>) cached.result;
+        }
+        return (Result<S, F>) this.cache(failure).result;
+    }
+
+    /** Caches a failure value, evicting another one if this pool is full. */
+    private synchronized Entry cache(Object failure) {
+        final Entry existing = this.failures.get(failure);
+        if (existing != null) return existing;
+        final int slot;
+        if (this.count < this.capacity) {
+            if (this.count == this.keys.length) {
+                this.keys = Arrays.copyOf(this.keys, (int) Math.min((long) this.count << 1, this.capacity));
+            }
+            slot = this.count++;
+        } else {
+            slot = this.evict();
+        }
+        final Entry created = new Entry(new Failure<>(failure));
+        this.keys[slot] = failure;
+        this.failures.put(failure, created);
+        return created;
+    }
+
+    /** Removes the first entry not looked up since the clock hand last visited it, and returns its slot. */
+    private int evict() {
+        while (true) {
+            final int slot = this.hand;
+            this.hand = slot + 1 == this.count ? 0 : slot + 1;
+            final Entry entry = this.failures.get(this.keys[slot]);
+            if (!entry.referenced) {
+                this.failures.remove(this.keys[slot]);
+                return slot;
+            }
+            entry.referenced = false;
+        }
+    }
+
+    /**
+     * Returns the maximum number of failed results this pool can keep.
+     *
+     * @return the capacity of this pool
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of failed results this pool currently keeps.
+     *
+     * @return the size of this pool
+     */
+    public int size() {
+        return this.failures.size();
+    }
+
+    @Override
+    public String toString() {
+        return "FailurePool[capacity=" + this.capacity + ", size=" + this.size() + "]";
+    }
+
+    /** Cached failed result, marked whenever it is looked up. */
+    private static final class Entry {
+
+        final Failure<?, ?> result;
+        volatile boolean referenced;
+
+        Entry(Failure<?, ?> result) {
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Opt-in recorder of the most recent failure values created via {@link Results}.
+ * <p>
+ * While a trace is {@link #start(int, int) started}, failure values of the results created by {@link Results} are
+ * sampled into a fixed-size ring buffer, along with a timestamp and the call site that created them. Recording is
+ * lock-free, and failures that are not sampled cost a single random number.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public final class FailureTrace {
+
+    private static volatile FailureTrace current;
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicLong sequence = new AtomicLong();
+    private final int mask;
+    private final int samplingRate;
+
+    private FailureTrace(int capacity, int samplingRate) {
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.samplingRate = samplingRate;
+    }
+
+    /**
+     * Starts tracing failures, replacing the current trace, if any.
+     *
+     * @param capacity the maximum number of failures to keep; rounded up to the next power of two
+     * @param samplingRate the average number of failures per sampled failure; {@code 1} records every failure
+     * @return the new trace
+     * @throws IllegalArgumentException if {@code capacity} is not between {@code 1} and {@code 2^30}, or if
+     *     {@code samplingRate} is less than {@code 1}
+     */
+    public static FailureTrace start(int capacity, int samplingRate) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        if (samplingRate < 1) {
+            throw new IllegalArgumentException("sampling rate must be positive: " + samplingRate);
+        }
+        final FailureTrace trace = new FailureTrace(capacity, samplingRate);
+        current = trace;
+        return trace;
+    }
+
+    /** Stops tracing failures. */
+    public static void stop() {
+        current = null;
+    }
+
+    /**
+     * Returns the current trace.
+     *
+     * @return the current trace if started; otherwise an empty {@code Optional}
+     */
+    public static Optional<FailureTrace> current() {
+        return Optional.ofNullable(current);
+    }
+
+    static void record(Object failure) {
+        final FailureTrace trace = current;
+        if (trace != null) trace.sample(failure);
+    }
+
+    private void sample(Object failure) {
+        if (this.samplingRate > 1 && ThreadLocalRandom.current().nextInt(this.samplingRate) != 0) return;
+        final long seq = this.sequence.getAndIncrement();
+        final Entry entry = new Entry(seq, failure, System.currentTimeMillis(), callSite(), Thread.currentThread());
+        this.entries.lazySet((int) seq & this.mask, entry);
+    }
+
+    private static StackTraceElement callSite() {
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            final String className = frame.getClassName();
+            if (!className.equals(FailureTrace.class.getName())
+                    && !className.equals(Results.class.getName())
+                    && !className.startsWith("java.")) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of failures sampled so far, including the ones no longer kept.
+     *
+     * @return the number of sampled failures
+     */
+    public long sampled() {
+        return this.sequence.get();
+    }
+
+    /**
+     * Returns the most recent sampled failures.
+     *
+     * @return an unmodifiable list of sampled failures, oldest first
+     */
+    public List<Entry> recent() {
+        final long last = this.sequence.get();
+        final long first = Math.max(0, last - this.entries.length());
+        final List<Entry> recent = new ArrayList<>((int) (last - first));
+        for (long seq = first; seq < last; seq++) {
+            final Entry entry = this.entries.get((int) seq & this.mask);
+            // Skip slots not yet written or already overwritten
+            if (entry != null && entry.sequence == seq) recent.add(entry);
+        }
+        return Collections.unmodifiableList(recent);
+    }
+
+    @Override
+    public String toString() {
+        return "FailureTrace[sampled=" + this.sampled() + ", recent=" + this.recent() + "]";
+    }
+
+    /**
+     * Failure value sampled by a {@link FailureTrace}.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     */
+    public static final class Entry {
+
+        private final long sequence;
+        private final Object failure;
+        private final long timestamp;
+        private final StackTraceElement callSite;
+        private final String thread;
+
+        Entry(long sequence, Object failure, long timestamp, StackTraceElement callSite, Thread thread) {
+            this.sequence = sequence;
+            this.failure = failure;
+            this.timestamp = timestamp;
+            this.callSite = callSite;
+            this.thread = thread.getName();
+        }
+
+        /**
+         * Returns the failure value.
+         *
+         * @return the failure value
+         */
+        public Object failure() {
+            return this.failure;
+        }
+
+        /**
+         * Returns the moment the failure was created.
+         *
+         * @return the moment the failure was created
+         */
+        public Instant timestamp() {
+            return Instant.ofEpochMilli(this.timestamp);
+        }
+
+        /**
+         * Returns the place in the code that created the failure.
+         *
+         * @return the call site that created the failure, if known; otherwise an empty {@code Optional}
+         */
+        public Optional<StackTraceElement> callSite() {
+            return Optional.ofNullable(this.callSite);
+        }
+
+        /**
+         * Returns the name of the thread that created the failure.
+         *
+         * @return the name of the thread that created the failure
+         */
+        public String thread() {
+            return this.thread;
+        }
+
+        @Override
+        public String toString() {
+            return this.timestamp() + " [" + this.thread + "] " + this.failure + " at " + this.callSite;
+        }
+    }
+}
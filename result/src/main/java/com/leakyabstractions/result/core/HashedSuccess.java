@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import java.util.Objects;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Successful {@link Result} that caches the hash code of its success value.
+ * <p>
+ * The hash code is computed the first time it is needed, and compared before the success values when checking equality
+ * with another instance of this class. Equality and hash codes are otherwise the same as {@link Success}, and
+ * transformations produce regular {@code Success} instances.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ */
+final class HashedSuccess<S, F> extends Success<S, F> {
+
+    private int hash;
+
+    HashedSuccess(S value) {
+        super(value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof HashedSuccess && this.hashCode() != obj.hashCode()) return false;
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        // Zero means not computed yet; benign data race, as in String.hashCode()
+        int h = this.hash;
+        if (h == 0) {
+            h = Objects.hashCode(this.value);
+            this.hash = h;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies, measured in nanoseconds.
+ * <p>
+ * Values are counted in log-linear buckets: each power-of-two range is split into 32 linear
+ * sub-buckets, so that reported values are within about 3% of the recorded ones. Recording never blocks and never
+ * allocates.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see ResultLatency
+ */
+public final class LatencyHistogram {
+
+    /** Number of linear sub-buckets per power of two. */
+    static final int SUB_BUCKETS = 32;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        this.counts.getAndIncrement(indexOf(Math.max(0, nanos)));
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param duration the latency
+     * @param unit the time unit of {@code duration}
+     */
+    public void record(long duration, TimeUnit unit) {
+        this.record(unit.toNanos(duration));
+    }
+
+    /**
+     * Returns a point-in-time copy of this histogram.
+     * <p>
+     * Latencies recorded while taking the snapshot may or may not be included.
+     *
+     * @return a new snapshot of this histogram
+     */
+    public Snapshot snapshot() {
+        final long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = this.counts.get(i);
+        }
+        return new Snapshot(copy);
+    }
+
+    /** Discards all recorded latencies. */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram" + this.snapshot();
+    }
+
+    static int indexOf(long value) {
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value | SUB_BUCKETS);
+        final int shift = magnitude - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestValueAt(int index) {
+        if (index < 2 * SUB_BUCKETS) return index;
+        final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        final long lowest = (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Immutable copy of a {@link LatencyHistogram}.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+
+        Snapshot(long[] counts) {
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            this.counts = counts;
+            this.count = total;
+        }
+
+        /**
+         * Returns the number of recorded latencies.
+         *
+         * @return the number of recorded latencies
+         */
+        public long count() {
+            return this.count;
+        }
+
+        /**
+         * Returns the latency at a given percentile.
+         *
+         * @param percentile the percentile, between {@code 0} and {@code 100}
+         * @return the latency in nanoseconds at or below which {@code percentile} percent of the recorded latencies
+         *     fall; or zero if no latencies were recorded
+         * @throws IllegalArgumentException if {@code percentile} is not between {@code 0} and {@code 100}
+         */
+        public long percentile(double percentile) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.count));
+            long seen = 0;
+            for (int i = 0; i < this.counts.length; i++) {
+                seen += this.counts[i];
+                if (seen >= rank) return highestValueAt(i);
+            }
+            return 0;
+        }
+
+        /**
+         * Returns the lowest recorded latency.
+         *
+         * @return the lowest latency in nanoseconds; or zero if no latencies were recorded
+         */
+        public long min() {
+            for (int i = 0; i < this.counts.length; i++) {
+                if (this.counts[i] != 0) return highestValueAt(i);
+            }
+            return 0;
+        }
+
+        /**
+         * Returns the highest recorded latency.
+         *
+         * @return the highest latency in nanoseconds; or zero if no latencies were recorded
+         */
+        public long max() {
+            for (int i = this.counts.length - 1; i >= 0; i--) {
+                if (this.counts[i] != 0) return highestValueAt(i);
+            }
+            return 0;
+        }
+
+        /**
+         * Returns the arithmetic mean of the recorded latencies.
+         *
+         * @return the mean latency in nanoseconds; or zero if no latencies were recorded
+         */
+        public double mean() {
+            if (this.count == 0) return 0;
+            double sum = 0;
+            for (int i = 0; i < this.counts.length; i++) {
+                sum += (double) this.counts[i] * highestValueAt(i);
+            }
+            return sum / this.count;
+        }
+
+        @Override
+        public String toString() {
+            return "[count=" + this.count
+                    + ", p50=" + NANOSECONDS.toMicros(this.percentile(50))
+                    + "us, p99=" + NANOSECONDS.toMicros(this.percentile(99))
+                    + "us, max=" + NANOSECONDS.toMicros(this.max()) + "us]";
+        }
+    }
+}
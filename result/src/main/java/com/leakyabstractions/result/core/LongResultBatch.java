@@ -0,0 +1,328 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.LongBuffer;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Columnar, immutable sequence of results with {@code long} success values and {@code int} failure codes.
+ * <p>
+ * Each row takes eight bytes of a buffer, holding either its success value or its failure code, plus one bit of a
+ * bitmap that marks failed rows. By default, both are stored off-heap, in direct buffers, which keeps very large result
+ * sets out of the garbage-collected heap; direct memory is only released once the batch becomes unreachable and is
+ * garbage-collected, so short-lived batches should be {@link #heapBuilder(int) stored on the heap} instead. Batches
+ * derived from another one use the same kind of storage. {@link Result} objects are only created on demand, when rows
+ * are {@link #get(int) retrieved}.
+ * <p>
+ * Bulk operations run in blocks of 64 rows, one bitmap word at a time; blocks without failures are processed by
+ * straight counted loops that the JIT compiler can unroll and vectorize.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see DoubleResultBatch
+ */
+public final class LongResultBatch {
+
+    private final LongBuffer values;
+    private final FailureBitmap failures;
+
+    private LongResultBatch(LongBuffer values, FailureBitmap failures) {
+        this.values = values;
+        this.failures = failures;
+    }
+
+    /**
+     * Creates a new {@code LongResultBatch} based on a function that produces a result for each row.
+     * <p>
+     * The new batch is stored off-heap.
+     *
+     * @param size the number of rows
+     * @param rows the function that produces the result of a given row
+     * @return a new {@code LongResultBatch} holding the results produced by {@code rows}
+     * @throws NullPointerException if {@code rows} is {@code null} or produces {@code null}
+     * @throws IllegalArgumentException if {@code size} is negative or too large to be stored in a buffer
+     */
+    public static LongResultBatch of(int size, IntFunction<? extends Result<? extends Long, ? extends Integer>> rows) {
+        requireNonNull(rows, "rows");
+        final Builder builder = builder(size);
+        for (int i = 0; i < size; i++) {
+            builder.add(requireNonNull(rows.apply(i), "result"));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a new {@link Builder} that appends rows one at a time without allocating any objects.
+     * <p>
+     * The batches it builds are stored off-heap.
+     *
+     * @param capacity the maximum number of rows
+     * @return a new {@code Builder}
+     * @throws IllegalArgumentException if {@code capacity} is negative or too large to be stored in a buffer
+     */
+    public static Builder builder(int capacity) {
+        return new Builder(capacity, true);
+    }
+
+    /**
+     * Creates a new {@link Builder} that appends rows one at a time without allocating any objects.
+     * <p>
+     * The batches it builds are stored on the heap.
+     *
+     * @param capacity the maximum number of rows
+     * @return a new {@code Builder}
+     * @throws IllegalArgumentException if {@code capacity} is negative or too large to be stored in a buffer
+     */
+    public static Builder heapBuilder(int capacity) {
+        return new Builder(capacity, false);
+    }
+
+    /**
+     * Returns the number of rows in this batch.
+     *
+     * @return the number of rows in this batch
+     */
+    public int size() {
+        return this.failures.size();
+    }
+
+    /**
+     * Checks whether this batch is stored off-heap.
+     *
+     * @return {@code true} if this batch is stored in direct buffers; {@code false} if it is stored on the heap
+     */
+    public boolean isDirect() {
+        return this.failures.isDirect();
+    }
+
+    /**
+     * Returns the number of failed rows in this batch.
+     *
+     * @return the number of failed rows in this batch
+     */
+    public int failureCount() {
+        return this.failures.cardinality();
+    }
+
+    /**
+     * Checks whether a given row is successful.
+     *
+     * @param index the position of the row
+     * @return {@code true} if the row at {@code index} is successful; otherwise {@code false}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean hasSuccess(int index) {
+        return !this.failures.get(index);
+    }
+
+    /**
+     * Returns the success value of a given row.
+     *
+     * @param index the position of the row
+     * @return the success value of the row at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws NoSuchElementException if the row at {@code index} is failed
+     */
+    public long getAsLong(int index) {
+        if (!this.hasSuccess(index)) throw new NoSuchElementException("No success value at index " + index);
+        return this.values.get(index);
+    }
+
+    /**
+     * Returns the failure code of a given row.
+     *
+     * @param index the position of the row
+     * @return the failure code of the row at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws NoSuchElementException if the row at {@code index} is successful
+     */
+    public int failureCode(int index) {
+        if (this.hasSuccess(index)) throw new NoSuchElementException("No failure code at index " + index);
+        return (int) this.values.get(index);
+    }
+
+    /**
+     * Returns a view of a given row.
+     *
+     * @param index the position of the row
+     * @return a new {@code Result} holding the success value or failure code of the row at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Result<Long, Integer> get(int index) {
+        if (this.hasSuccess(index)) return new Success<>(this.values.get(index));
+        return new Failure<>((int) this.values.get(index));
+    }
+
+    /**
+     * Transforms every success value in this batch, leaving failure codes untouched.
+     *
+     * @param mapper the mapping function that produces new success values
+     * @return a new {@code LongResultBatch} holding the transformed success values and the same failure codes
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public LongResultBatch map(LongUnaryOperator mapper) {
+        requireNonNull(mapper, "mapper");
+        final int size = this.size();
+        final LongBuffer mapped = allocate(size, this.isDirect());
+        for (int w = 0; w < this.failures.words(); w++) {
+            final int from = w << 6;
+            final int to = Math.min(from + Long.SIZE, size);
+            final long failed = this.failures.word(w);
+            if (failed == 0) {
+                for (int i = from; i < to; i++) {
+                    mapped.put(i, mapper.applyAsLong(this.values.get(i)));
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    final long value = this.values.get(i);
+                    mapped.put(i, (failed & (1L << i)) == 0 ? mapper.applyAsLong(value) : value);
+                }
+            }
+        }
+        return new LongResultBatch(mapped, this.failures);
+    }
+
+    /**
+     * Transforms unacceptable success values in this batch into failures.
+     *
+     * @param isAcceptable the predicate that tells acceptable success values
+     * @param failureCode the failure code for unacceptable success values
+     * @return a new {@code LongResultBatch} where unacceptable success values are replaced by {@code failureCode}
+     * @throws NullPointerException if {@code isAcceptable} is {@code null}
+     */
+    public LongResultBatch filter(LongPredicate isAcceptable, int failureCode) {
+        requireNonNull(isAcceptable, "isAcceptable");
+        final int size = this.size();
+        final LongBuffer filtered = allocate(size, this.isDirect());
+        final FailureBitmap failures = FailureBitmap.allocate(size, this.isDirect());
+        for (int w = 0; w < this.failures.words(); w++) {
+            final int from = w << 6;
+            final int to = Math.min(from + Long.SIZE, size);
+            final long failed = this.failures.word(w);
+            long rejected = 0;
+            if (failed == 0) {
+                for (int i = from; i < to; i++) {
+                    final long value = this.values.get(i);
+                    final boolean accepted = isAcceptable.test(value);
+                    filtered.put(i, accepted ? value : failureCode);
+                    rejected |= accepted ? 0 : 1L << i;
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    final long value = this.values.get(i);
+                    final boolean accepted = (failed & (1L << i)) != 0 || isAcceptable.test(value);
+                    filtered.put(i, accepted ? value : failureCode);
+                    rejected |= accepted ? 0 : 1L << i;
+                }
+            }
+            failures.setWord(w, failed | rejected);
+        }
+        return new LongResultBatch(filtered, failures);
+    }
+
+    private static LongBuffer allocate(int size, boolean direct) {
+        return FailureBitmap.buffer(size, direct).asLongBuffer();
+    }
+
+    /**
+     * Appends rows to a new {@link LongResultBatch}.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     */
+    public static final class Builder {
+
+        private final LongBuffer values;
+        private final FailureBitmap failures;
+        private int size;
+        private boolean built;
+
+        private Builder(int capacity, boolean direct) {
+            this.failures = FailureBitmap.allocate(capacity, direct);
+            this.values = allocate(capacity, direct);
+        }
+
+        /**
+         * Appends a successful row.
+         *
+         * @param value the success value
+         * @return this builder
+         * @throws IllegalStateException if this builder is full or has already built a batch
+         */
+        public Builder addSuccess(long value) {
+            this.values.put(this.next(), value);
+            return this;
+        }
+
+        /**
+         * Appends a failed row.
+         *
+         * @param code the failure code
+         * @return this builder
+         * @throws IllegalStateException if this builder is full or has already built a batch
+         */
+        public Builder addFailure(int code) {
+            final int index = this.next();
+            this.values.put(index, code);
+            this.failures.set(index);
+            return this;
+        }
+
+        /**
+         * Appends a row based on a result.
+         *
+         * @param result the result of the row
+         * @return this builder
+         * @throws NullPointerException if {@code result} is {@code null}
+         * @throws IllegalStateException if this builder is full or has already built a batch
+         */
+        public Builder add(Result<? extends Long, ? extends Integer> result) {
+            requireNonNull(result, "result");
+            return result.hasSuccess()
+                    ? this.addSuccess(result.getSuccess().get())
+                    : this.addFailure(result.getFailure().get());
+        }
+
+        /**
+         * Builds a batch holding the rows appended so far.
+         *
+         * @return a new {@code LongResultBatch}
+         * @throws IllegalStateException if this builder has already built a batch
+         */
+        public LongResultBatch build() {
+            this.checkNotBuilt();
+            this.built = true;
+            return new LongResultBatch(this.values, this.failures.truncate(this.size));
+        }
+
+        private int next() {
+            this.checkNotBuilt();
+            if (this.size == this.values.capacity()) throw new IllegalStateException("Builder is full");
+            return this.size++;
+        }
+
+        private void checkNotBuilt() {
+            if (this.built) throw new IllegalStateException("Batch already built");
+        }
+    }
+}
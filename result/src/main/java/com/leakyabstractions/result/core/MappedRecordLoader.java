@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Loader that parses delimited records straight from memory-mapped files.
+ * <p>
+ * Files are mapped with {@link FileChannel#map(FileChannel.MapMode, long, long)} and split into chunks at record
+ * boundaries, so that chunks can be parsed in parallel without copying any bytes into intermediate strings. Each
+ * record is turned into a {@link Result} that either holds the parsed record or a {@link ParseError} with the byte
+ * offset where the record starts; then the result is routed to the corresponding sink.
+ * <p>
+ * Since chunks are parsed concurrently, the parser and both sinks must be thread-safe, and records are not necessarily
+ * delivered in file order.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the parsed records
+ */
+public final class MappedRecordLoader<T> {
+
+    /** Default record delimiter. */
+    public static final byte DEFAULT_DELIMITER = '\n';
+
+    /** Default chunk size, in bytes. */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private final RecordParser<? extends T> parser;
+    private final byte delimiter;
+    private final int chunkSize;
+
+    private MappedRecordLoader(RecordParser<? extends T> parser, byte delimiter, int chunkSize) {
+        this.parser = parser;
+        this.delimiter = delimiter;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates a new {@code MappedRecordLoader} for newline-delimited records.
+     *
+     * @param <T> the type of the parsed records
+     * @param parser the function that parses each record
+     * @return a new {@code MappedRecordLoader}
+     * @throws NullPointerException if {@code parser} is {@code null}
+     */
+    public static <T> MappedRecordLoader<T> of(RecordParser<? extends T> parser) {
+        return of(parser, DEFAULT_DELIMITER, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new {@code MappedRecordLoader}.
+     *
+     * @param <T> the type of the parsed records
+     * @param parser the function that parses each record
+     * @param delimiter the byte that terminates each record
+     * @param chunkSize the approximate number of bytes parsed by each parallel task
+     * @return a new {@code MappedRecordLoader}
+     * @throws NullPointerException if {@code parser} is {@code null}
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    public static <T> MappedRecordLoader<T> of(RecordParser<? extends T> parser, byte delimiter, int chunkSize) {
+        requireNonNull(parser, "parser");
+        if (chunkSize < 1) throw new IllegalArgumentException("chunk size must be positive: " + chunkSize);
+        return new MappedRecordLoader<>(parser, delimiter, chunkSize);
+    }
+
+    /**
+     * Parses every record in a file.
+     * <p>
+     * An empty record after the last delimiter is ignored.
+     *
+     * @param file the file to parse
+     * @param successes the sink that consumes parsed records
+     * @param failures the sink that consumes parse errors
+     * @throws NullPointerException if any of {@code file}, {@code successes} or {@code failures} is {@code null}
+     * @throws IOException if an I/O error occurs, or if a chunk cannot be mapped because a record is too long
+     */
+    public void load(Path file, Consumer<? super T> successes, Consumer<? super ParseError> failures)
+            throws IOException {
+        requireNonNull(file, "file");
+        requireNonNull(successes, "successes");
+        requireNonNull(failures, "failures");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long[] boundaries = this.boundaries(channel);
+            try {
+                IntStream.range(0, boundaries.length - 1).parallel().forEach(i -> {
+                    try {
+                        this.parse(channel, boundaries[i], boundaries[i + 1], successes, failures);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /** Finds chunk boundaries, moving each nominal split point right after the next delimiter. */
+    private long[] boundaries(FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final List<Long> boundaries = new ArrayList<>();
+        final ByteBuffer window = ByteBuffer.allocate(8 * 1024);
+        long start = 0;
+        boundaries.add(start);
+        while (size - start > this.chunkSize) {
+            long position = start + this.chunkSize;
+            long boundary = size;
+            search: while (position < size) {
+                window.clear();
+                final int read = channel.read(window, position);
+                if (read < 0) break;
+                for (int i = 0; i < read; i++) {
+                    if (window.get(i) == this.delimiter) {
+                        boundary = position + i + 1;
+                        break search;
+                    }
+                }
+                position += read;
+            }
+            if (boundary == size) break;
+            boundaries.add(boundary);
+            start = boundary;
+        }
+        boundaries.add(size);
+        final long[] array = new long[boundaries.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = boundaries.get(i);
+        }
+        return array;
+    }
+
+    private void parse(
+            FileChannel channel,
+            long start,
+            long end,
+            Consumer<? super T> successes,
+            Consumer<? super ParseError> failures) throws IOException {
+        final long length = end - start;
+        if (length > Integer.MAX_VALUE) throw new IOException("Record too long to be mapped at offset " + start);
+        if (length == 0) return;
+        final MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        final int limit = (int) length;
+        int first = 0;
+        while (first < limit) {
+            int last = first;
+            while (last < limit && chunk.get(last) != this.delimiter) {
+                last++;
+            }
+            final ByteBuffer record = chunk.duplicate();
+            record.limit(last);
+            record.position(first);
+            this.parse(record.slice().asReadOnlyBuffer(), start + first).ifSuccessOrElse(successes, failures);
+            first = last + 1;
+        }
+    }
+
+    private Result<T, ParseError> parse(ByteBuffer record, long offset) {
+        final T value;
+        try {
+            value = this.parser.parse(record);
+        } catch (Exception exception) {
+            final String message = exception.getMessage();
+            return Results.failure(ParseError.of(offset, message == null ? exception.toString() : message));
+        }
+        return value == null
+                ? Results.failure(ParseError.of(offset, "Parser returned null"))
+                : Results.success(value);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Failure value that describes why a record could not be parsed and where it starts.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see MappedRecordLoader
+ */
+public final class ParseError {
+
+    private final long offset;
+    private final String message;
+
+    private ParseError(long offset, String message) {
+        this.offset = offset;
+        this.message = message;
+    }
+
+    /**
+     * Creates a new {@code ParseError}.
+     *
+     * @param offset the byte offset where the offending record starts
+     * @param message the description of the error
+     * @return a new {@code ParseError}
+     * @throws NullPointerException if {@code message} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} is negative
+     */
+    public static ParseError of(long offset, String message) {
+        requireNonNull(message, "message");
+        if (offset < 0) throw new IllegalArgumentException("offset must not be negative: " + offset);
+        return new ParseError(offset, message);
+    }
+
+    /**
+     * Returns the byte offset where the offending record starts.
+     *
+     * @return the byte offset where the offending record starts
+     */
+    public long offset() {
+        return this.offset;
+    }
+
+    /**
+     * Returns the description of the error.
+     *
+     * @return the description of the error
+     */
+    public String message() {
+        return this.message;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ParseError)) return false;
+        final ParseError other = (ParseError) obj;
+        return this.offset == other.offset && this.message.equals(other.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.offset, this.message);
+    }
+
+    @Override
+    public String toString() {
+        return "ParseError[offset=" + this.offset + ", message=" + this.message + "]";
+    }
+}
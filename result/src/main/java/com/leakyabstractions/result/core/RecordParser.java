@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Function that parses a single record.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the parsed records
+ * @see MappedRecordLoader
+ */
+@FunctionalInterface
+public interface RecordParser<T> {
+
+    /**
+     * Parses a record.
+     * <p>
+     * The buffer is a read-only view of the record, without the delimiter, and is only valid during this call.
+     *
+     * @param record the bytes of the record, from its position to its limit
+     * @return the parsed record
+     * @throws Exception if the record cannot be parsed
+     */
+    T parse(ByteBuffer record) throws Exception;
+}
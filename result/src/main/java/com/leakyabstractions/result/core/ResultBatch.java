@@ -0,0 +1,386 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Columnar, immutable sequence of results.
+ * <p>
+ * Instead of holding one {@link Result} object per element, a batch keeps a bitset that tells successes from failures,
+ * an array of success values, and a sparse map of failure values sorted by index. {@code Result} objects are only
+ * created on demand, when elements are {@link #get(int) retrieved} or {@link #iterator() iterated}.
+ * <p>
+ * Bulk operations such as {@link #mapSuccess(Function)} and {@link #filter(Predicate, Function)} run as tight loops
+ * over the underlying arrays, and share whatever storage they leave untouched with the original batch.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the success type of the results
+ * @param <F> the failure type of the results
+ */
+public final class ResultBatch<S, F> implements Iterable<Result<S, F>> {
+
+    private final int size;
+    private final long[] successes;
+    private final Object[] values;
+    private final int[] failureIndices;
+    private final Object[] failureValues;
+
+    private ResultBatch(int size, long[] successes, Object[] values, int[] failureIndices, Object[] failureValues) {
+        this.size = size;
+        this.successes = successes;
+        this.values = values;
+        this.failureIndices = failureIndices;
+        this.failureValues = failureValues;
+    }
+
+    /**
+     * Creates a new {@code ResultBatch} based on an array of possibly-null success values and a failure value.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param values the success values to use where non-null
+     * @param failure the failure value to use where a success value is {@code null}
+     * @return a new {@code ResultBatch} holding a successful result for each non-null value and a failed result for
+     *     each {@code null} value
+     * @throws NullPointerException if {@code values} is {@code null}; or if some success value is {@code null} and
+     *     {@code failure} is {@code null}
+     */
+    public static <S, F> ResultBatch<S, F> ofNullable(S[] values, F failure) {
+        requireNonNull(values, "values");
+        return create(Arrays.copyOf(values, values.length, Object[].class), () -> requireNonNull(failure, "failure"));
+    }
+
+    /**
+     * Creates a new {@code ResultBatch} based on an array of possibly-null success values and a failure
+     * {@link Supplier}.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param values the success values to use where non-null
+     * @param failureSupplier the {@code Supplier} that produces a failure value for each {@code null} value
+     * @return a new {@code ResultBatch} holding a successful result for each non-null value and a failed result for
+     *     each {@code null} value
+     * @throws NullPointerException if {@code values} is {@code null}; or if some success value is {@code null} and
+     *     {@code failureSupplier} is {@code null} or returns {@code null}
+     */
+    public static <S, F> ResultBatch<S, F> ofNullable(S[] values, Supplier<? extends F> failureSupplier) {
+        requireNonNull(values, "values");
+        return create(Arrays.copyOf(values, values.length, Object[].class), failureSupplier);
+    }
+
+    /**
+     * Creates a new {@code ResultBatch} based on a list of possibly-null success values and a failure value.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param values the success values to use where non-null
+     * @param failure the failure value to use where a success value is {@code null}
+     * @return a new {@code ResultBatch} holding a successful result for each non-null value and a failed result for
+     *     each {@code null} value
+     * @throws NullPointerException if {@code values} is {@code null}; or if some success value is {@code null} and
+     *     {@code failure} is {@code null}
+     */
+    public static <S, F> ResultBatch<S, F> ofNullable(List<? extends S> values, F failure) {
+        requireNonNull(values, "values");
+        return create(values.toArray(), () -> requireNonNull(failure, "failure"));
+    }
+
+    /**
+     * Creates a new {@code ResultBatch} based on a list of possibly-null success values and a failure {@link Supplier}.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param values the success values to use where non-null
+     * @param failureSupplier the {@code Supplier} that produces a failure value for each {@code null} value
+     * @return a new {@code ResultBatch} holding a successful result for each non-null value and a failed result for
+     *     each {@code null} value
+     * @throws NullPointerException if {@code values} is {@code null}; or if some success value is {@code null} and
+     *     {@code failureSupplier} is {@code null} or returns {@code null}
+     */
+    public static <S, F> ResultBatch<S, F> ofNullable(List<? extends S> values, Supplier<? extends F> failureSupplier) {
+        requireNonNull(values, "values");
+        return create(values.toArray(), failureSupplier);
+    }
+
+    /**
+     * Creates a new {@code ResultBatch} based on a list of results.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param results the results to hold
+     * @return a new {@code ResultBatch} holding the success and failure values of {@code results}, in the same order
+     * @throws NullPointerException if {@code results} is {@code null} or contains {@code null} elements
+     */
+    public static <S, F> ResultBatch<S, F> of(List<? extends Result<? extends S, ? extends F>> results) {
+        requireNonNull(results, "results");
+        final Object[] values = results.toArray();
+        final int size = values.length;
+        final long[] successes = new long[words(size)];
+        int failures = 0;
+        for (int i = 0; i < size; i++) {
+            if (requireNonNull((Result<?, ?>) values[i], "result").hasSuccess()) {
+                successes[i >>> 6] |= 1L << i;
+            } else {
+                failures++;
+            }
+        }
+        final int[] failureIndices = new int[failures];
+        final Object[] failureValues = new Object[failures];
+        for (int i = 0, j = 0; i < size; i++) {
+            final Result<?, ?> result = (Result<?, ?>) values[i];
+            if ((successes[i >>> 6] & (1L << i)) != 0) {
+                values[i] = result.orElse(null);
+            } else {
+                failureIndices[j] = i;
+                failureValues[j++] = result.getFailure().get();
+                values[i] = null;
+            }
+        }
+        return new ResultBatch<>(size, successes, values, failureIndices, failureValues);
+    }
+
+    /** Takes ownership of {@code values}, which must not be shared. */
+    private static <S, F> ResultBatch<S, F> create(Object[] values, Supplier<? extends F> failureSupplier) {
+        final int size = values.length;
+        final long[] successes = new long[words(size)];
+        int failures = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != null) {
+                successes[i >>> 6] |= 1L << i;
+            } else {
+                failures++;
+            }
+        }
+        if (failures == 0) return new ResultBatch<>(size, successes, values, new int[0], new Object[0]);
+        requireNonNull(failureSupplier, "failure supplier");
+        final int[] failureIndices = new int[failures];
+        final Object[] failureValues = new Object[failures];
+        for (int i = 0, j = 0; j < failures; i++) {
+            if (values[i] == null) {
+                failureIndices[j] = i;
+                failureValues[j++] = requireNonNull(failureSupplier.get(), "failure value returned by supplier");
+            }
+        }
+        return new ResultBatch<>(size, successes, values, failureIndices, failureValues);
+    }
+
+    /**
+     * Returns the number of results in this batch.
+     *
+     * @return the number of results in this batch
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of successful results in this batch.
+     *
+     * @return the number of successful results in this batch
+     */
+    public int successCount() {
+        return this.size - this.failureIndices.length;
+    }
+
+    /**
+     * Returns the number of failed results in this batch.
+     *
+     * @return the number of failed results in this batch
+     */
+    public int failureCount() {
+        return this.failureIndices.length;
+    }
+
+    /**
+     * Checks whether the result at a given position is successful, without creating a {@link Result} object.
+     *
+     * @param index the position of the result
+     * @return {@code true} if the result at {@code index} is successful; otherwise {@code false}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean hasSuccess(int index) {
+        this.checkIndex(index);
+        return this.isSuccess(index);
+    }
+
+    /**
+     * Returns a view of the result at a given position.
+     *
+     * @param index the position of the result
+     * @return a new {@code Result} holding the success or failure value at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Result<S, F> get(int index) {
+        this.checkIndex(index);
+        if (this.isSuccess(index)) return new Success<>(this.success(index));
+        return new Failure<>(this.failure(Arrays.binarySearch(this.failureIndices, index)));
+    }
+
+    /**
+     * Returns an iterator over views of the results in this batch, in order.
+     *
+     * @return an iterator that creates a {@code Result} for each element as it is traversed
+     */
+    @Override
+    public Iterator<Result<S, F>> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Returns a list of the results in this batch, in order.
+     *
+     * @return a new, mutable list holding a {@code Result} for each element
+     */
+    public List<Result<S, F>> toList() {
+        final List<Result<S, F>> list = new ArrayList<>(this.size);
+        for (Result<S, F> result : this) {
+            list.add(result);
+        }
+        return list;
+    }
+
+    /**
+     * Transforms every success value in this batch, leaving failures untouched.
+     *
+     * @param <S2> the success type of the new batch
+     * @param mapper the mapping function that produces new success values
+     * @return a new {@code ResultBatch} holding the transformed success values and the same failure values
+     * @throws NullPointerException if {@code mapper} is {@code null} or returns {@code null}
+     */
+    public <S2> ResultBatch<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+        requireNonNull(mapper, "mapper");
+        final Object[] mapped = new Object[this.size];
+        for (int w = 0; w < this.successes.length; w++) {
+            for (long word = this.successes[w]; word != 0; word &= word - 1) {
+                final int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                mapped[index] = requireNonNull(mapper.apply(this.success(index)), "success value returned by mapper");
+            }
+        }
+        return new ResultBatch<>(this.size, this.successes, mapped, this.failureIndices, this.failureValues);
+    }
+
+    /**
+     * Transforms unacceptable success values in this batch into failures.
+     *
+     * @param isAcceptable the predicate that tells acceptable success values
+     * @param mapper the mapping function that produces failure values for unacceptable success values
+     * @return this batch if every success value is acceptable; otherwise a new {@code ResultBatch} where unacceptable
+     *     success values are replaced by failure values
+     * @throws NullPointerException if {@code isAcceptable} is {@code null}; or if some success value is not
+     *     acceptable and {@code mapper} is {@code null} or returns {@code null}
+     */
+    public ResultBatch<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        requireNonNull(isAcceptable, "isAcceptable");
+        long[] successes = this.successes;
+        Object[] values = this.values;
+        int[] rejectedIndices = null;
+        Object[] rejectedValues = null;
+        int rejected = 0;
+        for (int w = 0; w < this.successes.length; w++) {
+            for (long word = this.successes[w]; word != 0; word &= word - 1) {
+                final int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                final S success = this.success(index);
+                if (isAcceptable.test(success)) continue;
+                requireNonNull(mapper, "mapper");
+                final F failure = requireNonNull(mapper.apply(success), "failure value returned by mapper");
+                if (rejected == 0) {
+                    successes = this.successes.clone();
+                    values = this.values.clone();
+                    rejectedIndices = new int[Math.min(16, this.size)];
+                    rejectedValues = new Object[rejectedIndices.length];
+                } else if (rejected == rejectedIndices.length) {
+                    rejectedIndices = Arrays.copyOf(rejectedIndices, rejected << 1);
+                    rejectedValues = Arrays.copyOf(rejectedValues, rejected << 1);
+                }
+                successes[w] &= ~(1L << index);
+                values[index] = null;
+                rejectedIndices[rejected] = index;
+                rejectedValues[rejected++] = failure;
+            }
+        }
+        if (rejected == 0) return this;
+        // Merge new failures with the existing ones, keeping them sorted by index
+        final int total = this.failureIndices.length + rejected;
+        final int[] failureIndices = new int[total];
+        final Object[] failureValues = new Object[total];
+        for (int i = 0, j = 0, k = 0; k < total; k++) {
+            if (j == rejected || (i < this.failureIndices.length && this.failureIndices[i] < rejectedIndices[j])) {
+                failureIndices[k] = this.failureIndices[i];
+                failureValues[k] = this.failureValues[i++];
+            } else {
+                failureIndices[k] = rejectedIndices[j];
+                failureValues[k] = rejectedValues[j++];
+            }
+        }
+        return new ResultBatch<>(this.size, successes, values, failureIndices, failureValues);
+    }
+
+    private boolean isSuccess(int index) {
+        return (this.successes[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private S success(int index) {
+        return (S) this.values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private F failure(int position) {
+        return (F) this.failureValues[position];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    private static int words(int size) {
+        return (size + Long.SIZE - 1) >>> 6;
+    }
+
+    private final class Itr implements Iterator<Result<S, F>> {
+
+        private int next;
+        private int failure;
+
+        @Override
+        public boolean hasNext() {
+            return this.next < ResultBatch.this.size;
+        }
+
+        @Override
+        public Result<S, F> next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final int index = this.next++;
+            if (ResultBatch.this.isSuccess(index)) return new Success<>(ResultBatch.this.success(index));
+            return new Failure<>(ResultBatch.this.failure(this.failure++));
+        }
+    }
+}
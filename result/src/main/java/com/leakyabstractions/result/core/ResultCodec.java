@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Compact binary encoder and decoder of {@link Result} objects.
+ * <p>
+ * Results are encoded as a one-byte tag, followed by either the success value or the failure value, as encoded by the
+ * corresponding {@link ValueCodec}. Values are written straight into the destination, without intermediate copies.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the success type of the {@code Result}
+ * @param <F> the failure type of the {@code Result}
+ */
+public final class ResultCodec<S, F> {
+
+    static final byte SUCCESS = 0;
+    static final byte FAILURE = 1;
+
+    private final ValueCodec<S> successCodec;
+    private final ValueCodec<F> failureCodec;
+
+    private ResultCodec(ValueCodec<S> successCodec, ValueCodec<F> failureCodec) {
+        this.successCodec = successCodec;
+        this.failureCodec = failureCodec;
+    }
+
+    /**
+     * Creates a new {@code ResultCodec}.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param successCodec the codec for success values
+     * @param failureCodec the codec for failure values
+     * @return a new {@code ResultCodec}
+     * @throws NullPointerException if either {@code successCodec} or {@code failureCodec} is {@code null}
+     */
+    public static <S, F> ResultCodec<S, F> of(ValueCodec<S> successCodec, ValueCodec<F> failureCodec) {
+        requireNonNull(successCodec, "success codec");
+        requireNonNull(failureCodec, "failure codec");
+        return new ResultCodec<>(successCodec, failureCodec);
+    }
+
+    /**
+     * Encodes a {@link Result} into a {@link ByteBuffer}.
+     *
+     * @param result the {@code Result} to encode
+     * @param buffer the buffer to encode into
+     * @throws NullPointerException if either {@code result} or {@code buffer} is {@code null}
+     * @throws java.nio.BufferOverflowException if there is not enough space left in {@code buffer}
+     */
+    public void encode(Result<S, F> result, ByteBuffer buffer) {
+        requireNonNull(result, "result");
+        requireNonNull(buffer, "buffer");
+        if (result.hasSuccess()) {
+            buffer.put(SUCCESS);
+            this.successCodec.encode(result.orElse(null), buffer);
+        } else {
+            buffer.put(FAILURE);
+            this.failureCodec.encode(result.getFailure().get(), buffer);
+        }
+    }
+
+    /**
+     * Decodes a {@link Result} from a {@link ByteBuffer}.
+     *
+     * @param buffer the buffer to decode from
+     * @return the decoded {@code Result}
+     * @throws NullPointerException if {@code buffer} is {@code null}, or if the decoded value is {@code null}
+     * @throws IllegalArgumentException if {@code buffer} does not contain an encoded {@code Result}
+     * @throws java.nio.BufferUnderflowException if there are not enough bytes left in {@code buffer}
+     */
+    public Result<S, F> decode(ByteBuffer buffer) {
+        requireNonNull(buffer, "buffer");
+        final byte tag = buffer.get();
+        switch (tag) {
+            case SUCCESS:
+                return Results.success(this.successCodec.decode(buffer));
+            case FAILURE:
+                return Results.failure(this.failureCodec.decode(buffer));
+            default:
+                throw new IllegalArgumentException("Invalid result tag: " + tag);
+        }
+    }
+
+    /**
+     * Writes a {@link Result} to a {@link DataOutput}.
+     *
+     * @param result the {@code Result} to write
+     * @param output the output to write to
+     * @throws NullPointerException if either {@code result} or {@code output} is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Result<S, F> result, DataOutput output) throws IOException {
+        requireNonNull(result, "result");
+        requireNonNull(output, "output");
+        if (result.hasSuccess()) {
+            output.writeByte(SUCCESS);
+            this.successCodec.write(result.orElse(null), output);
+        } else {
+            output.writeByte(FAILURE);
+            this.failureCodec.write(result.getFailure().get(), output);
+        }
+    }
+
+    /**
+     * Reads a {@link Result} from a {@link DataInput}.
+     *
+     * @param input the input to read from
+     * @return the {@code Result} read
+     * @throws NullPointerException if {@code input} is {@code null}, or if the value read is {@code null}
+     * @throws IOException if an I/O error occurs, or if {@code input} does not contain an encoded {@code Result}
+     */
+    public Result<S, F> read(DataInput input) throws IOException {
+        requireNonNull(input, "input");
+        final byte tag = input.readByte();
+        switch (tag) {
+            case SUCCESS:
+                return Results.success(this.successCodec.read(input));
+            case FAILURE:
+                return Results.failure(this.failureCodec.read(input));
+            default:
+                throw new IOException("Invalid result tag: " + tag);
+        }
+    }
+}
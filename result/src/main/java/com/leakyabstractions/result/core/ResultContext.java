@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Propagates thread-bound context, such as logging or tracing context, to the threads that produce {@link Result}
+ * objects.
+ * <p>
+ * The context is captured once, when a task is wrapped or submitted, and restored on the thread that runs the task
+ * right before producing the result. Any transformations applied to the result while the task runs see the same
+ * context without capturing it again. Once the result is produced, the context is cleared, so that it does not leak to
+ * other tasks run by the same thread.
+ * <p>
+ * Context propagators created with {@link #swapping(Supplier, UnaryOperator)} give the thread back the context it had
+ * before instead. This keeps the context of the submitting thread intact when it runs the task itself, at the cost of
+ * swapping the context twice per task rather than capturing it again.
+ * <p>
+ * For example, to propagate the <a href="https://www.slf4j.org/">SLF4J</a> mapped diagnostic context:
+ *
+ * <pre>{@code
+ * ResultContext<Map<String, String>> mdc = ResultContext.of(MDC::getCopyOfContextMap, MDC::setContextMap, MDC::clear);
+ * }</pre>
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <C> the type of the context
+ */
+public final class ResultContext<C> {
+
+    private final Supplier<? extends C> capture;
+    private final UnaryOperator<C> swap;
+
+    private ResultContext(Supplier<? extends C> capture, UnaryOperator<C> swap) {
+        this.capture = capture;
+        this.swap = swap;
+    }
+
+    /**
+     * Creates a new context propagator that clears the context once each task is done.
+     *
+     * @param <C> the type of the context
+     * @param capture the function that returns a possibly-null snapshot of the context of the current thread
+     * @param restore the function that binds a snapshot to the current thread
+     * @param clear the function that unbinds the context from the current thread, used once each task is done and
+     *     instead of {@code restore} when the snapshot to restore is {@code null}
+     * @return the new context propagator
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <C> ResultContext<C> of(
+            Supplier<? extends C> capture, Consumer<? super C> restore, Runnable clear) {
+        requireNonNull(capture, "capture");
+        requireNonNull(restore, "restore");
+        requireNonNull(clear, "clear");
+        return new ResultContext<>(capture, context -> {
+            if (context == null) {
+                clear.run();
+            } else {
+                restore.accept(context);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Creates a new context propagator that gives each thread back its previous context once each task is done.
+     * <p>
+     * The {@code swap} function binds the given snapshot to the current thread, or unbinds the context if the snapshot
+     * is {@code null}, and returns the snapshot that was bound before, or {@code null} if there was none. It is called
+     * right before running each task, and then again with the snapshot it returned once the task is done.
+     *
+     * @param <C> the type of the context
+     * @param capture the function that returns a possibly-null snapshot of the context of the current thread
+     * @param swap the function that binds a snapshot to the current thread and returns the previous one
+     * @return the new context propagator
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <C> ResultContext<C> swapping(Supplier<? extends C> capture, UnaryOperator<C> swap) {
+        requireNonNull(capture, "capture");
+        requireNonNull(swap, "swap");
+        return new ResultContext<>(capture, swap);
+    }
+
+    /**
+     * Wraps a task so that it produces a {@link Result} within the current context.
+     * <p>
+     * The context is captured when this method is called, and the returned {@code Callable} never throws exceptions
+     * thrown by {@code task}; they become failed results instead, as with {@link Results#ofCallable(Callable)}.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param task the {@code Callable} that produces a success value, or throws an {@link Exception} if unable to do so
+     * @return a {@code Callable} that runs {@code task} within the current context
+     * @throws NullPointerException if {@code task} is {@code null}
+     */
+    public <S> Callable<Result<S, Exception>> callable(Callable<? extends S> task) {
+        requireNonNull(task, "task");
+        final C context = this.capture.get();
+        return () -> {
+            final C previous = this.swap.apply(context);
+            try {
+                return Results.ofCallable(task);
+            } finally {
+                this.swap.apply(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps a {@link Result}-producing task so that it runs within the current context.
+     * <p>
+     * The context is captured when this method is called. This is useful for subtasks forked by a {@link ResultScope}
+     * or passed to {@link java.util.concurrent.CompletableFuture#supplyAsync(Supplier, Executor)}.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param task the {@code Supplier} that produces a result
+     * @return a {@code Supplier} that runs {@code task} within the current context
+     * @throws NullPointerException if {@code task} is {@code null}
+     */
+    public <S, F> Supplier<Result<S, F>> supplier(Supplier<? extends Result<S, F>> task) {
+        requireNonNull(task, "task");
+        final C context = this.capture.get();
+        return () -> {
+            final C previous = this.swap.apply(context);
+            try {
+                return task.get();
+            } finally {
+                this.swap.apply(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps an {@link Executor} so that submitted commands run within the context of the submitting thread.
+     * <p>
+     * The context is captured once per submitted command.
+     *
+     * @param executor the executor to wrap
+     * @return an {@code Executor} that runs commands with {@code executor} within the context of the submitting thread
+     * @throws NullPointerException if {@code executor} is {@code null}
+     */
+    public Executor executor(Executor executor) {
+        requireNonNull(executor, "executor");
+        return command -> {
+            requireNonNull(command, "command");
+            final C context = this.capture.get();
+            executor.execute(() -> {
+                final C previous = this.swap.apply(context);
+                try {
+                    command.run();
+                } finally {
+                    this.swap.apply(previous);
+                }
+            });
+        };
+    }
+}
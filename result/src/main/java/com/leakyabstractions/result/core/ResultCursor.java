@@ -0,0 +1,441 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Mutable, reusable holder of either a success or a failure value.
+ * <p>
+ * A cursor offers the same operations as {@link Result}, but transformations update the cursor in place instead of
+ * creating new objects, so that tight loops can process many values without allocating a result per iteration. When a
+ * value needs to escape the loop, {@link #freeze()} creates an immutable {@code Result} holding it.
+ * <p>
+ * Since transformations return this very cursor, they cannot change its success or failure type. Values of other types
+ * must be frozen and transformed as regular results, or held by a separate cursor.
+ * <p>
+ * Cursors are deliberately not results: they must not be shared between threads, stored, or returned, and they are not
+ * meant to be compared for equality.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the success type of the cursor
+ * @param <F> the failure type of the cursor
+ */
+public final class ResultCursor<S, F> {
+
+    private Object value;
+    private boolean success;
+
+    private ResultCursor() {
+        // Empty until reset
+    }
+
+    /**
+     * Creates a new, empty {@code ResultCursor}.
+     *
+     * @param <S> the success type of the cursor
+     * @param <F> the failure type of the cursor
+     * @return a new {@code ResultCursor} that must be reset with a success or failure value before it can be used
+     */
+    public static <S, F> ResultCursor<S, F> create() {
+        return new ResultCursor<>();
+    }
+
+    /**
+     * Resets this cursor with a success value.
+     *
+     * @param success the success value
+     * @return this cursor
+     * @throws NullPointerException if {@code success} is {@code null}
+     */
+    public ResultCursor<S, F> success(S success) {
+        return this.set(requireNonNull(success, "success"), true);
+    }
+
+    /**
+     * Resets this cursor with a failure value.
+     *
+     * @param failure the failure value
+     * @return this cursor
+     * @throws NullPointerException if {@code failure} is {@code null}
+     */
+    public ResultCursor<S, F> failure(F failure) {
+        return this.set(requireNonNull(failure, "failure"), false);
+    }
+
+    /**
+     * Resets this cursor with the value held by a result.
+     *
+     * @param result the result whose value will be held
+     * @return this cursor
+     * @throws NullPointerException if {@code result} is {@code null}
+     */
+    public ResultCursor<S, F> reset(Result<? extends S, ? extends F> result) {
+        requireNonNull(result, "result");
+        return result.hasSuccess()
+                ? this.set(result.getSuccess().get(), true)
+                : this.set(result.getFailure().get(), false);
+    }
+
+    /**
+     * Creates an immutable {@link Result} holding the current value of this cursor.
+     *
+     * @return a new {@code Result} holding the current success or failure value
+     * @throws IllegalStateException if this cursor is empty
+     */
+    public Result<S, F> freeze() {
+        return this.hasSuccess() ? new Success<>(this.success()) : new Failure<>(this.failure());
+    }
+
+    /**
+     * Returns this cursor's success value as a possibly-empty {@link Optional}.
+     *
+     * @return an {@code Optional} holding the success value if this cursor holds one; otherwise an empty one
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#getSuccess()
+     */
+    public Optional<S> getSuccess() {
+        return this.hasSuccess() ? Optional.of(this.success()) : Optional.empty();
+    }
+
+    /**
+     * Returns this cursor's failure value as a possibly-empty {@link Optional}.
+     *
+     * @return an {@code Optional} holding the failure value if this cursor holds one; otherwise an empty one
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#getFailure()
+     */
+    public Optional<F> getFailure() {
+        return this.hasFailure() ? Optional.of(this.failure()) : Optional.empty();
+    }
+
+    /**
+     * Checks if this cursor holds a success value.
+     *
+     * @return {@code true} if this cursor holds a success value; otherwise {@code false}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#hasSuccess()
+     */
+    public boolean hasSuccess() {
+        if (this.value == null) throw new IllegalStateException("Cursor is empty");
+        return this.success;
+    }
+
+    /**
+     * Checks if this cursor holds a failure value.
+     *
+     * @return {@code true} if this cursor holds a failure value; otherwise {@code false}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#hasFailure()
+     */
+    public boolean hasFailure() {
+        return !this.hasSuccess();
+    }
+
+    /**
+     * Returns this cursor's success value; or a given one if it holds a failure value.
+     *
+     * @param other the possibly-null value to return if this cursor holds a failure value
+     * @return this cursor's success value if present; otherwise {@code other}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#orElse(Object)
+     */
+    public S orElse(S other) {
+        return this.hasSuccess() ? this.success() : other;
+    }
+
+    /**
+     * Returns this cursor's success value; or transforms its failure value.
+     *
+     * @param mapper the mapping function that produces a possibly-null value from the failure value
+     * @return this cursor's success value if present; otherwise the value produced by {@code mapper}
+     * @throws NullPointerException if this cursor holds a failure value and {@code mapper} is {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#orElseMap(Function)
+     */
+    public S orElseMap(Function<? super F, ? extends S> mapper) {
+        if (this.hasSuccess()) return this.success();
+        requireNonNull(mapper, "mapper");
+        return mapper.apply(this.failure());
+    }
+
+    /**
+     * Returns a sequential {@link Stream} containing only this cursor's success value, if present.
+     *
+     * @return a stream holding the success value if present; otherwise an empty stream
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#streamSuccess()
+     */
+    public Stream<S> streamSuccess() {
+        return this.hasSuccess() ? Stream.of(this.success()) : Stream.empty();
+    }
+
+    /**
+     * Returns a sequential {@link Stream} containing only this cursor's failure value, if present.
+     *
+     * @return a stream holding the failure value if present; otherwise an empty stream
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#streamFailure()
+     */
+    public Stream<F> streamFailure() {
+        return this.hasFailure() ? Stream.of(this.failure()) : Stream.empty();
+    }
+
+    /**
+     * Performs the given action with this cursor's success value, if present.
+     *
+     * @param action the action to perform with the success value
+     * @return this cursor
+     * @throws NullPointerException if this cursor holds a success value and {@code action} is {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#ifSuccess(Consumer)
+     */
+    public ResultCursor<S, F> ifSuccess(Consumer<? super S> action) {
+        if (this.hasSuccess()) requireNonNull(action, "action").accept(this.success());
+        return this;
+    }
+
+    /**
+     * Performs either of the given actions with this cursor's success or failure value.
+     *
+     * @param successAction the action to perform with the success value
+     * @param failureAction the action to perform with the failure value
+     * @return this cursor
+     * @throws NullPointerException if the action to perform is {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#ifSuccessOrElse(Consumer, Consumer)
+     */
+    public ResultCursor<S, F> ifSuccessOrElse(Consumer<? super S> successAction, Consumer<? super F> failureAction) {
+        if (this.hasSuccess()) {
+            requireNonNull(successAction, "success action").accept(this.success());
+        } else {
+            requireNonNull(failureAction, "failure action").accept(this.failure());
+        }
+        return this;
+    }
+
+    /**
+     * Performs the given action with this cursor's failure value, if present.
+     *
+     * @param action the action to perform with the failure value
+     * @return this cursor
+     * @throws NullPointerException if this cursor holds a failure value and {@code action} is {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#ifFailure(Consumer)
+     */
+    public ResultCursor<S, F> ifFailure(Consumer<? super F> action) {
+        if (this.hasFailure()) requireNonNull(action, "action").accept(this.failure());
+        return this;
+    }
+
+    /**
+     * Transforms this cursor's success value into a failure value, in place, if it is not acceptable.
+     *
+     * @param isAcceptable the predicate that tells acceptable success values
+     * @param mapper the mapping function that produces a failure value from an unacceptable success value
+     * @return this cursor
+     * @throws NullPointerException if this cursor holds a success value and {@code isAcceptable} is {@code null}; or
+     *     if the success value is not acceptable and {@code mapper} is {@code null} or returns {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#filter(Predicate, Function)
+     */
+    public ResultCursor<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        if (this.hasFailure()) return this;
+        requireNonNull(isAcceptable, "isAcceptable");
+        if (isAcceptable.test(this.success())) return this;
+        requireNonNull(mapper, "mapper");
+        return this.set(requireNonNull(mapper.apply(this.success()), "failure value returned by mapper"), false);
+    }
+
+    /**
+     * Transforms this cursor's failure value into a success value, in place, if it is recoverable.
+     *
+     * @param isRecoverable the predicate that tells recoverable failure values
+     * @param mapper the mapping function that produces a success value from a recoverable failure value
+     * @return this cursor
+     * @throws NullPointerException if this cursor holds a failure value and {@code isRecoverable} is {@code null}; or
+     *     if the failure value is recoverable and {@code mapper} is {@code null} or returns {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#recover(Predicate, Function)
+     */
+    public ResultCursor<S, F> recover(Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+        if (this.hasSuccess()) return this;
+        requireNonNull(isRecoverable, "isRecoverable");
+        if (!isRecoverable.test(this.failure())) return this;
+        requireNonNull(mapper, "mapper");
+        return this.set(requireNonNull(mapper.apply(this.failure()), "success value returned by mapper"), true);
+    }
+
+    /**
+     * Transforms this cursor's value, in place, using either of the given mapping functions.
+     * <p>
+     * Unlike {@link Result#map(Function, Function)}, the mapping functions must preserve the success and failure
+     * types, since this cursor cannot change its own type parameters.
+     *
+     * @param successMapper the mapping function that produces a new success value
+     * @param failureMapper the mapping function that produces a new failure value
+     * @return this cursor
+     * @throws NullPointerException if the mapping function to apply is {@code null} or returns {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#map(Function, Function)
+     */
+    public ResultCursor<S, F> map(
+            Function<? super S, ? extends S> successMapper, Function<? super F, ? extends F> failureMapper) {
+        if (this.hasSuccess()) {
+            requireNonNull(successMapper, "success mapper");
+            final S success = successMapper.apply(this.success());
+            return this.set(requireNonNull(success, "success value returned by success mapper"), true);
+        }
+        requireNonNull(failureMapper, "failure mapper");
+        final F failure = failureMapper.apply(this.failure());
+        return this.set(requireNonNull(failure, "failure value returned by failure mapper"), false);
+    }
+
+    /**
+     * Transforms this cursor's success value, in place, if present.
+     * <p>
+     * Unlike {@link Result#mapSuccess(Function)}, the mapping function must preserve the success type.
+     *
+     * @param mapper the mapping function that produces a new success value
+     * @return this cursor
+     * @throws NullPointerException if this cursor holds a success value and {@code mapper} is {@code null} or returns
+     *     {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#mapSuccess(Function)
+     */
+    public ResultCursor<S, F> mapSuccess(Function<? super S, ? extends S> mapper) {
+        if (this.hasFailure()) return this;
+        requireNonNull(mapper, "mapper");
+        return this.set(requireNonNull(mapper.apply(this.success()), "success value returned by mapper"), true);
+    }
+
+    /**
+     * Transforms this cursor's failure value, in place, if present.
+     * <p>
+     * Unlike {@link Result#mapFailure(Function)}, the mapping function must preserve the failure type.
+     *
+     * @param mapper the mapping function that produces a new failure value
+     * @return this cursor
+     * @throws NullPointerException if this cursor holds a failure value and {@code mapper} is {@code null} or returns
+     *     {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#mapFailure(Function)
+     */
+    public ResultCursor<S, F> mapFailure(Function<? super F, ? extends F> mapper) {
+        if (this.hasSuccess()) return this;
+        requireNonNull(mapper, "mapper");
+        return this.set(requireNonNull(mapper.apply(this.failure()), "failure value returned by mapper"), false);
+    }
+
+    /**
+     * Replaces this cursor's value, in place, with the value held by the result produced by either of the given mapping
+     * functions.
+     * <p>
+     * Unlike {@link Result#flatMap(Function, Function)}, the produced result must have the same success and failure
+     * types as this cursor.
+     *
+     * @param successMapper the mapping function that produces a new result from the success value
+     * @param failureMapper the mapping function that produces a new result from the failure value
+     * @return this cursor
+     * @throws NullPointerException if the mapping function to apply is {@code null} or returns {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#flatMap(Function, Function)
+     */
+    public ResultCursor<S, F> flatMap(
+            Function<? super S, ? extends Result<? extends S, ? extends F>> successMapper,
+            Function<? super F, ? extends Result<? extends S, ? extends F>> failureMapper) {
+        final Result<? extends S, ? extends F> result;
+        if (this.hasSuccess()) {
+            requireNonNull(successMapper, "success mapper");
+            result = requireNonNull(successMapper.apply(this.success()), "result object returned by success mapper");
+        } else {
+            requireNonNull(failureMapper, "failure mapper");
+            result = requireNonNull(failureMapper.apply(this.failure()), "result object returned by failure mapper");
+        }
+        return this.reset(result);
+    }
+
+    /**
+     * Replaces this cursor's success value, in place, with the value held by the result produced by the given mapping
+     * function.
+     * <p>
+     * Unlike {@link Result#flatMapSuccess(Function)}, the produced result must have the same success and failure types
+     * as this cursor.
+     *
+     * @param mapper the mapping function that produces a new result from the success value
+     * @return this cursor
+     * @throws NullPointerException if this cursor holds a success value and {@code mapper} is {@code null} or returns
+     *     {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#flatMapSuccess(Function)
+     */
+    public ResultCursor<S, F> flatMapSuccess(Function<? super S, ? extends Result<? extends S, ? extends F>> mapper) {
+        if (this.hasFailure()) return this;
+        requireNonNull(mapper, "mapper");
+        return this.reset(requireNonNull(mapper.apply(this.success()), "result object returned by mapper"));
+    }
+
+    /**
+     * Replaces this cursor's failure value, in place, with the value held by the result produced by the given mapping
+     * function.
+     * <p>
+     * Unlike {@link Result#flatMapFailure(Function)}, the produced result must have the same success and failure types
+     * as this cursor.
+     *
+     * @param mapper the mapping function that produces a new result from the failure value
+     * @return this cursor
+     * @throws NullPointerException if this cursor holds a failure value and {@code mapper} is {@code null} or returns
+     *     {@code null}
+     * @throws IllegalStateException if this cursor is empty
+     * @see Result#flatMapFailure(Function)
+     */
+    public ResultCursor<S, F> flatMapFailure(Function<? super F, ? extends Result<? extends S, ? extends F>> mapper) {
+        if (this.hasSuccess()) return this;
+        requireNonNull(mapper, "mapper");
+        return this.reset(requireNonNull(mapper.apply(this.failure()), "result object returned by mapper"));
+    }
+
+    @Override
+    public String toString() {
+        if (this.value == null) return "ResultCursor[]";
+        return (this.success ? "ResultCursor[success=" : "ResultCursor[failure=") + this.value + "]";
+    }
+
+    private ResultCursor<S, F> set(Object value, boolean success) {
+        this.value = value;
+        this.success = success;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private S success() {
+        return (S) this.value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private F failure() {
+        return (F) this.value;
+    }
+}
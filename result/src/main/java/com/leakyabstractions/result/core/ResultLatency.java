@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Latency distributions of a named operation, split by outcome.
+ * <p>
+ * Instances are kept in a global registry, so that the same operation name always yields the same instance.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Results#ofCallable(java.util.concurrent.Callable, ResultLatency)
+ */
+public final class ResultLatency {
+
+    private static final ConcurrentMap<String, ResultLatency> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final LatencyHistogram successes = new LatencyHistogram();
+    private final LatencyHistogram failures = new LatencyHistogram();
+
+    private ResultLatency(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the latency distributions of a given operation, creating them if necessary.
+     *
+     * @param name the name of the operation
+     * @return the {@code ResultLatency} registered under {@code name}
+     * @throws NullPointerException if {@code name} is {@code null}
+     */
+    public static ResultLatency named(String name) {
+        requireNonNull(name, "name");
+        return REGISTRY.computeIfAbsent(name, ResultLatency::new);
+    }
+
+    /**
+     * Returns all registered latency distributions.
+     *
+     * @return an unmodifiable view of the registry, keyed by operation name
+     */
+    public static Map<String, ResultLatency> registry() {
+        return Collections.unmodifiableMap(REGISTRY);
+    }
+
+    /**
+     * Returns the name of the operation.
+     *
+     * @return the name of the operation
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Returns the latencies of the operations that succeeded.
+     *
+     * @return the histogram of successful latencies
+     */
+    public LatencyHistogram successes() {
+        return this.successes;
+    }
+
+    /**
+     * Returns the latencies of the operations that failed.
+     *
+     * @return the histogram of failed latencies
+     */
+    public LatencyHistogram failures() {
+        return this.failures;
+    }
+
+    /**
+     * Records the latency of an operation.
+     *
+     * @param result the outcome of the operation
+     * @param nanos the latency in nanoseconds
+     * @throws NullPointerException if {@code result} is {@code null}
+     */
+    public void record(Result<?, ?> result, long nanos) {
+        requireNonNull(result, "result");
+        (result.hasSuccess() ? this.successes : this.failures).record(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "ResultLatency[" + this.name + ", successes=" + this.successes.snapshot()
+                + ", failures=" + this.failures.snapshot() + "]";
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Scope that runs subtasks concurrently and aggregates the {@link Result} objects they produce.
+ * <p>
+ * Subtasks are {@link #fork(Supplier) forked} by the thread that created the scope, and run in their own threads:
+ * virtual threads on JDK 21 and later, or platform daemon threads otherwise. The owner then {@link #join() joins} the
+ * scope to get a single aggregated {@code Result}, according to the policy the scope was created with:
+ * <ul>
+ * <li>{@link #allSuccesses()} succeeds with every success value, or fails as soon as a subtask fails;
+ * <li>{@link #firstSuccess()} succeeds as soon as a subtask succeeds, or fails with every failure value; and
+ * <li>{@link #collectAll()} waits for every subtask, and succeeds only if all of them succeeded.
+ * </ul>
+ * <p>
+ * When the outcome is decided before every subtask completes, the remaining subtasks are cancelled by interrupting
+ * their threads. Failed results do not cancel anything unless the policy says so, so that ordinary failures are never
+ * signalled by throwing exceptions across threads. Exceptions thrown by subtasks are unexpected: they cancel the
+ * remaining subtasks, and are rethrown by {@code join}, wrapped in a {@link CompletionException} if they are checked.
+ * <p>
+ * Scopes must be closed, typically with a <em>try-with-resources</em> statement, so that no subtask outlives them.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the success type of the subtask results
+ * @param <F> the failure type of the subtask results
+ * @param <R> the type of the aggregated result
+ */
+public final class ResultScope<S, F, R extends Result<?, ?>> implements AutoCloseable {
+
+    private final Thread owner = Thread.currentThread();
+    private final ThreadFactory threadFactory = ScopeThreads.factory();
+    private final Predicate<Result<S, F>> decisive;
+    private final Aggregator<S, F, R> aggregator;
+    private final List<Thread> threads = new ArrayList<>();
+    private final List<Result<S, F>> results = new ArrayList<>();
+    private Result<S, F> decision;
+    private Throwable thrown;
+    private int pending;
+    private boolean joined;
+    private boolean closed;
+
+    private ResultScope(Predicate<Result<S, F>> decisive, Aggregator<S, F, R> aggregator) {
+        this.decisive = decisive;
+        this.aggregator = aggregator;
+    }
+
+    /**
+     * Creates a new scope that succeeds if every subtask succeeds.
+     * <p>
+     * The first failed result cancels the remaining subtasks and becomes the aggregated result.
+     *
+     * @param <S> the success type of the subtask results
+     * @param <F> the failure type of the subtask results
+     * @return a new scope that aggregates subtask results into a successful {@code Result} holding their success
+     *     values, in fork order, or into the first failed {@code Result}
+     */
+    public static <S, F> ResultScope<S, F, Result<List<S>, F>> allSuccesses() {
+        return new ResultScope<>(Result::hasFailure, (results, decision) -> {
+            if (decision != null) return new Failure<>(decision.getFailure().get());
+            return new Success<>(values(results, Result::getSuccess));
+        });
+    }
+
+    /**
+     * Creates a new scope that succeeds if any subtask succeeds.
+     * <p>
+     * The first successful result cancels the remaining subtasks and becomes the aggregated result.
+     *
+     * @param <S> the success type of the subtask results
+     * @param <F> the failure type of the subtask results
+     * @return a new scope that aggregates subtask results into the first successful {@code Result}, or into a failed
+     *     {@code Result} holding their failure values, in fork order
+     */
+    public static <S, F> ResultScope<S, F, Result<S, List<F>>> firstSuccess() {
+        return new ResultScope<>(Result::hasSuccess, (results, decision) -> {
+            if (decision != null) return new Success<>(decision.getSuccess().get());
+            return new Failure<>(values(results, Result::getFailure));
+        });
+    }
+
+    /**
+     * Creates a new scope that waits for every subtask.
+     * <p>
+     * Subtasks are never cancelled, regardless of their results.
+     *
+     * @param <S> the success type of the subtask results
+     * @param <F> the failure type of the subtask results
+     * @return a new scope that aggregates subtask results into a successful {@code Result} holding their success
+     *     values if all of them succeeded, or into a failed {@code Result} holding the failure values otherwise, both
+     *     in fork order
+     */
+    public static <S, F> ResultScope<S, F, Result<List<S>, List<F>>> collectAll() {
+        return new ResultScope<>(result -> false, (results, decision) -> {
+            final List<F> failures = values(results, Result::getFailure);
+            if (!failures.isEmpty()) return new Failure<>(failures);
+            return new Success<>(values(results, Result::getSuccess));
+        });
+    }
+
+    /**
+     * Starts a new subtask in its own thread.
+     * <p>
+     * If the outcome of this scope has already been decided, the subtask is not started.
+     *
+     * @param task the subtask that produces a non-null {@code Result}
+     * @throws NullPointerException if {@code task} is {@code null}
+     * @throws IllegalStateException if this scope has already been joined or closed, or if the current thread is not
+     *     the one that created this scope
+     */
+    public void fork(Supplier<? extends Result<? extends S, ? extends F>> task) {
+        requireNonNull(task, "task");
+        this.checkOwner();
+        synchronized (this) {
+            if (this.joined || this.closed) throw new IllegalStateException("Scope already joined or closed");
+            if (this.isDecided()) return;
+            final int index = this.results.size();
+            this.results.add(null);
+            final Thread thread = this.threadFactory.newThread(() -> this.run(index, task));
+            this.threads.add(thread);
+            this.pending++;
+            // Start while holding the lock, so that a concurrent cancellation cannot miss this thread
+            thread.start();
+        }
+    }
+
+    /**
+     * Waits for the outcome of this scope to be decided, and aggregates the results of its subtasks.
+     * <p>
+     * Subtasks that have not completed yet are cancelled.
+     *
+     * @return the aggregated result
+     * @throws IllegalStateException if this scope has already been joined or closed, or if the current thread is not
+     *     the one that created this scope
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws RuntimeException if any subtask threw an unchecked exception
+     * @throws Error if any subtask threw an error
+     * @throws CompletionException if any subtask threw a checked exception
+     */
+    public R join() throws InterruptedException {
+        this.checkOwner();
+        synchronized (this) {
+            if (this.joined || this.closed) throw new IllegalStateException("Scope already joined or closed");
+            while (this.pending > 0 && !this.isDecided()) {
+                this.wait();
+            }
+            this.joined = true;
+            this.cancel();
+            if (this.thrown instanceof RuntimeException) throw (RuntimeException) this.thrown;
+            if (this.thrown instanceof Error) throw (Error) this.thrown;
+            if (this.thrown != null) throw new CompletionException(this.thrown);
+            return this.aggregator.aggregate(this.results, this.decision);
+        }
+    }
+
+    /**
+     * Cancels the subtasks that have not completed yet, and waits for their threads to finish.
+     *
+     * @throws IllegalStateException if the current thread is not the one that created this scope
+     */
+    @Override
+    public void close() {
+        this.checkOwner();
+        final List<Thread> unfinished;
+        synchronized (this) {
+            if (this.closed) return;
+            this.closed = true;
+            this.cancel();
+            unfinished = new ArrayList<>(this.threads);
+        }
+        boolean interrupted = false;
+        for (Thread thread : unfinished) {
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ResultScope[forked=" + this.results.size() + ", pending=" + this.pending + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private void run(int index, Supplier<? extends Result<? extends S, ? extends F>> task) {
+        Result<S, F> result = null;
+        Throwable error = null;
+        try {
+            result = (Result<S, F>) requireNonNull(task.get(), "result object returned by task");
+        } catch (Throwable e) { // NOSONAR
+            error = e;
+        }
+        synchronized (this) {
+            this.pending--;
+            if (this.isDecided()) {
+                // Ignore the outcome of cancelled subtasks
+            } else if (error != null) {
+                this.thrown = error;
+            } else {
+                this.results.set(index, result);
+                if (this.decisive.test(result)) this.decision = result;
+            }
+            if (this.isDecided()) this.cancel();
+            if (this.pending == 0 || this.isDecided()) this.notifyAll();
+            this.threads.remove(Thread.currentThread());
+        }
+    }
+
+    private boolean isDecided() {
+        return this.decision != null || this.thrown != null;
+    }
+
+    /** Interrupts the threads of the subtasks that have not completed yet. */
+    private void cancel() {
+        for (Thread thread : this.threads) {
+            if (thread != Thread.currentThread()) thread.interrupt();
+        }
+    }
+
+    private void checkOwner() {
+        if (Thread.currentThread() != this.owner) {
+            throw new IllegalStateException("Current thread is not the owner of this scope");
+        }
+    }
+
+    private static <S, F, T> List<T> values(List<Result<S, F>> results, Function<Result<S, F>, Optional<T>> getter) {
+        final List<T> values = new ArrayList<>(results.size());
+        for (Result<S, F> result : results) {
+            // Cancelled subtasks have no result
+            if (result != null) getter.apply(result).ifPresent(values::add);
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    private interface Aggregator<S, F, R> {
+
+        R aggregate(List<Result<S, F>> results, Result<S, F> decision);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * {@link Spliterator} that lazily transforms the elements of a source into {@link Result} objects.
+ * <p>
+ * Each element is parsed only when it is traversed, so this spliterator can be used over very large sources such as
+ * the lines of a file. Size estimates and encounter order are delegated to the source spliterator. Splitting is
+ * delegated too, as long as the source can split; otherwise, source elements are buffered into arrays of increasing
+ * size, like {@link java.util.Spliterators.AbstractSpliterator} does, so that parallel streams can still split work.
+ * Buffered elements are parsed only when they are traversed.
+ * <p>
+ * In fail-fast mode, traversal stops right after the first failed result. This applies to every spliterator split from
+ * the same one, so parallel streams stop early too; since splits run concurrently, some successful results that come
+ * before the failure in encounter order may be skipped.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the source elements
+ * @param <S> the success type of the {@code Result}
+ * @param <F> the failure type of the {@code Result}
+ */
+public final class ResultSpliterator<T, S, F> implements Spliterator<Result<S, F>> {
+
+    private static final int DROPPED = SORTED | DISTINCT;
+    private static final int DROPPED_FAIL_FAST = DROPPED | SIZED | SUBSIZED;
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+
+    private final Spliterator<T> source;
+    private final Function<? super T, ? extends Result<S, F>> parser;
+    private final AtomicBoolean stopped;
+    private int batch;
+
+    private ResultSpliterator(
+            Spliterator<T> source, Function<? super T, ? extends Result<S, F>> parser, AtomicBoolean stopped) {
+        this.source = source;
+        this.parser = parser;
+        this.stopped = stopped;
+    }
+
+    /**
+     * Creates a new {@code ResultSpliterator} that traverses every element of the source.
+     *
+     * @param <T> the type of the source elements
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param source the spliterator that provides the elements to parse
+     * @param parser the function that transforms each element into a {@code Result}
+     * @return a new {@code ResultSpliterator}
+     * @throws NullPointerException if either {@code source} or {@code parser} is {@code null}
+     */
+    public static <T, S, F> ResultSpliterator<T, S, F> of(
+            Spliterator<T> source, Function<? super T, ? extends Result<S, F>> parser) {
+        requireNonNull(source, "source");
+        requireNonNull(parser, "parser");
+        return new ResultSpliterator<>(source, parser, null);
+    }
+
+    /**
+     * Creates a new {@code ResultSpliterator} that stops right after the first failed result.
+     *
+     * @param <T> the type of the source elements
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param source the spliterator that provides the elements to parse
+     * @param parser the function that transforms each element into a {@code Result}
+     * @return a new fail-fast {@code ResultSpliterator}
+     * @throws NullPointerException if either {@code source} or {@code parser} is {@code null}
+     */
+    public static <T, S, F> ResultSpliterator<T, S, F> failFast(
+            Spliterator<T> source, Function<? super T, ? extends Result<S, F>> parser) {
+        requireNonNull(source, "source");
+        requireNonNull(parser, "parser");
+        return new ResultSpliterator<>(source, parser, new AtomicBoolean());
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Result<S, F>> action) {
+        requireNonNull(action, "action");
+        if (this.stopped != null && this.stopped.get()) return false;
+        return this.source.tryAdvance(element -> action.accept(this.parse(element)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Result<S, F>> action) {
+        requireNonNull(action, "action");
+        if (this.stopped == null) {
+            this.source.forEachRemaining(element -> action.accept(this.parse(element)));
+            return;
+        }
+        while (this.tryAdvance(action)) {
+            // Keep going until the source is exhausted or a failure is found
+        }
+    }
+
+    @Override
+    public Spliterator<Result<S, F>> trySplit() {
+        if (this.stopped != null && this.stopped.get()) return null;
+        final Spliterator<T> prefix = this.source.trySplit();
+        if (prefix != null) return new ResultSpliterator<>(prefix, this.parser, this.stopped);
+        final long size = this.source.estimateSize();
+        if (size <= 1) return null;
+        // The source cannot split, so take a batch of its elements, one unit bigger than the previous one
+        final Batch buffer = new Batch((int) Math.min(size, Math.min(this.batch + BATCH_UNIT, MAX_BATCH)));
+        while (buffer.count < buffer.elements.length && this.source.tryAdvance(buffer)) {
+            // Keep going until the batch is full or the source is exhausted
+        }
+        if (buffer.count == 0) return null;
+        this.batch = buffer.count;
+        final Spliterator<T> elements = Spliterators.spliterator(
+                buffer.elements, 0, buffer.count, this.source.characteristics() & ORDERED);
+        return new ResultSpliterator<>(elements, this.parser, this.stopped);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.stopped != null && this.stopped.get() ? 0 : this.source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        final int characteristics = this.source.characteristics() | NONNULL;
+        return characteristics & ~(this.stopped == null ? DROPPED : DROPPED_FAIL_FAST);
+    }
+
+    private Result<S, F> parse(T element) {
+        final Result<S, F> result = requireNonNull(this.parser.apply(element), "result returned by parser");
+        if (this.stopped != null && !result.hasSuccess()) this.stopped.set(true);
+        return result;
+    }
+
+    /** Collects source elements into an array. */
+    private static final class Batch implements Consumer<Object> {
+
+        private final Object[] elements;
+        private int count;
+
+        private Batch(int size) {
+            this.elements = new Object[size];
+        }
+
+        @Override
+        public void accept(Object element) {
+            this.elements[this.count++] = element;
+        }
+    }
+}
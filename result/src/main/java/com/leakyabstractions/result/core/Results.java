@@ -26,7 +26,7 @@ import java.util.function.Supplier;
 import com.leakyabstractions.result.api.Result;
 
 /**
- * This class consists exclusively of static methods that return {@link Result} instances.
+ * This class consists exclusively of static methods that create or operate on {@link Result} instances.
  *
  * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
  * @see com.leakyabstractions.result.core Creating Results
@@ -52,6 +52,25 @@ public class Results {
         return new Success<>(success);
     }
 
+    /**
+     * Creates a new successful {@link Result} that caches the hash code of its success value.
+     * <p>
+     * The returned result is equal to {@code success(success)}, and so is its hash code. However, the hash code is
+     * computed only once, and compared before the success values when checking equality with another result created by
+     * this method. This is useful for results that hold large immutable values and are used as keys of hash maps or
+     * elements of hash sets. The cached hash code is not carried over by the transformation methods.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param success the immutable success value
+     * @return a successful {@code Result} holding {@code success}
+     * @throws NullPointerException if {@code success} is {@code null}
+     */
+    public static <S, F> Result<S, F> hashedSuccess(S success) {
+        requireNonNull(success, "success value");
+        return new HashedSuccess<>(success);
+    }
+
     /**
      * Creates a new failed {@link Result}.
      *
@@ -63,9 +82,28 @@ public class Results {
      */
     public static <S, F> Result<S, F> failure(F failure) {
         requireNonNull(failure, "failure value");
+        FailureTrace.record(failure);
         return new Failure<>(failure);
     }
 
+    /**
+     * Returns a canonical failed {@link Result}.
+     * <p>
+     * This is equivalent to {@code failure(failure)}, but equal failure values yield the same instance, so that
+     * frequently repeated failures, such as error codes with fixed messages, cost a hash lookup instead of an
+     * allocation. Results are cached in a shared {@link FailurePool} that keeps up to 4096 distinct failure values.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param failure the immutable failure value
+     * @return a failed {@code Result} holding a value equal to {@code failure}
+     * @throws NullPointerException if {@code failure} is {@code null}
+     * @see FailurePool
+     */
+    public static <S, F> Result<S, F> internedFailure(F failure) {
+        return FailurePool.DEFAULT.failure(failure);
+    }
+
     /**
      * Creates a new {@link Result} based on a possibly-null success value and a non-null failure value.
      *
@@ -98,6 +136,7 @@ public class Results {
         requireNonNull(failureSupplier, "failure supplier");
         final F failure = failureSupplier.get();
         requireNonNull(failure, "failure value returned by supplier");
+        FailureTrace.record(failure);
         return new Failure<>(failure);
     }
 
@@ -140,6 +179,7 @@ public class Results {
                             requireNonNull(failureSupplier, "failure supplier");
                             final F failure = failureSupplier.get();
                             requireNonNull(failure, "failure value returned by supplier");
+                            FailureTrace.record(failure);
                             return new Failure<>(failure);
                         });
     }
@@ -155,14 +195,16 @@ public class Results {
      */
     public static <S> Result<S, Exception> ofCallable(Callable<? extends S> task) {
         requireNonNull(task, "callable");
+        final CallableEvent event = CallableEvent.begin();
         final S success;
         try {
             success = task.call();
         } catch (Exception exception) {
-            return new Failure<>(exception);
+            FailureTrace.record(exception);
+            return event.complete(new Failure<>(exception));
         }
         requireNonNull(success, "success value returned by callable");
-        return new Success<>(success);
+        return event.complete(new Success<>(success));
     }
 
     /**
@@ -184,13 +226,334 @@ public class Results {
             Callable<? extends T> task, Function<? super T, ? extends S> mapper) {
         requireNonNull(task, "callable");
         requireNonNull(mapper, "mapper");
+        final CallableEvent event = CallableEvent.begin();
         final S success;
         try {
             success = mapper.apply(task.call());
         } catch (Exception exception) {
-            return new Failure<>(exception);
+            FailureTrace.record(exception);
+            return event.complete(new Failure<>(exception));
         }
         requireNonNull(success, "success value returned by mapper");
-        return new Success<>(success);
+        return event.complete(new Success<>(success));
+    }
+
+    /**
+     * Creates a new {@link Result} based on a {@link CheckedCallable} task that only fails with a given type of
+     * exception.
+     * <p>
+     * Since {@code task} can only throw checked exceptions of type {@code X}, any other exception thrown by it is
+     * unchecked; such exceptions are not captured and are rethrown to the caller as they are.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <X> the failure type of the {@code Result}
+     * @param task the {@code CheckedCallable} that produces a success value, or throws an exception if unable to do so
+     * @param exceptionType the type of the exceptions that become failures
+     * @return a successful {@code Result} holding the value produced by {@code task} if it completed as intended;
+     *     otherwise a failed {@code Result} holding the {@code exceptionType} instance thrown by {@code task}
+     * @throws NullPointerException if either {@code task} or {@code exceptionType} is {@code null}, or if {@code task}
+     *     returns {@code null}
+     */
+    public static <S, X extends Exception> Result<S, X> ofCallable(
+            CheckedCallable<? extends S, ? extends X> task, Class<X> exceptionType) {
+        requireNonNull(task, "callable");
+        requireNonNull(exceptionType, "exception type");
+        final CallableEvent event = CallableEvent.begin();
+        Result<S, X> result = null;
+        try {
+            final S success;
+            try {
+                success = task.call();
+            } catch (Exception exception) {
+                result = capture(exception, exceptionType);
+                return result;
+            }
+            requireNonNull(success, "success value returned by callable");
+            result = new Success<>(success);
+            return result;
+        } finally {
+            event.complete(result);
+        }
+    }
+
+    /**
+     * Creates a new {@link Result} based on a {@link CheckedCallable} task and a mapping {@link CheckedFunction} that
+     * only fail with a given type of exception.
+     * <p>
+     * Since neither {@code task} nor {@code mapper} can throw checked exceptions other than {@code X}, any other
+     * exception thrown by them is unchecked; such exceptions are not captured and are rethrown to the caller as they
+     * are.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <T> the type returned by the {@code task}
+     * @param <X> the failure type of the {@code Result}
+     * @param task the {@code CheckedCallable} that produces a possibly-null value, or throws an exception if unable to
+     *     do so
+     * @param mapper the mapping {@code CheckedFunction} that transforms the value produced by {@code task} into a
+     *     success value, or throws an exception if unable to do so
+     * @param exceptionType the type of the exceptions that become failures
+     * @return a successful {@code Result} holding the value produced by {@code task} and transformed by {@code mapper}
+     *     if both completed as intended; otherwise a failed {@code Result} holding the {@code exceptionType} instance
+     *     thrown by either one
+     * @throws NullPointerException if any of {@code task}, {@code mapper} or {@code exceptionType} is {@code null},
+     *     or if {@code mapper} returns {@code null}
+     */
+    public static <S, T, X extends Exception> Result<S, X> ofCallable(
+            CheckedCallable<? extends T, ? extends X> task,
+            CheckedFunction<? super T, ? extends S, ? extends X> mapper,
+            Class<X> exceptionType) {
+        requireNonNull(task, "callable");
+        requireNonNull(mapper, "mapper");
+        requireNonNull(exceptionType, "exception type");
+        final CallableEvent event = CallableEvent.begin();
+        Result<S, X> result = null;
+        try {
+            final S success;
+            try {
+                success = mapper.apply(task.call());
+            } catch (Exception exception) {
+                result = capture(exception, exceptionType);
+                return result;
+            }
+            requireNonNull(success, "success value returned by mapper");
+            result = new Success<>(success);
+            return result;
+        } finally {
+            event.complete(result);
+        }
+    }
+
+    /**
+     * Creates a new {@link Result} by applying a function to an argument.
+     * <p>
+     * This is equivalent to {@code ofCallable(() -> function.apply(argument))}, but lets call sites pass a static
+     * method reference instead of allocating a capturing lambda on every call.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <A> the type of the argument
+     * @param function the function that produces a success value, or throws an {@link Exception} if unable to do so
+     * @param argument the possibly-null argument of {@code function}
+     * @return a successful {@code Result} holding the value produced by {@code function} if it completed as intended;
+     *     otherwise a failed {@code Result} holding the {@code Exception} thrown by {@code function}
+     * @throws NullPointerException if {@code function} is {@code null} or returns {@code null}
+     */
+    public static <S, A> Result<S, Exception> ofFunction(
+            CheckedFunction<? super A, ? extends S, ?> function, A argument) {
+        requireNonNull(function, "function");
+        final CallableEvent event = CallableEvent.begin();
+        final S success;
+        try {
+            success = function.apply(argument);
+        } catch (Exception exception) {
+            FailureTrace.record(exception);
+            return event.complete(new Failure<>(exception));
+        }
+        requireNonNull(success, "success value returned by function");
+        return event.complete(new Success<>(success));
+    }
+
+    /**
+     * Creates a new {@link Result} by applying a function to two arguments.
+     * <p>
+     * This is equivalent to {@code ofCallable(() -> function.apply(first, second))}, but lets call sites pass a
+     * static method reference instead of allocating a capturing lambda on every call.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     * @param function the function that produces a success value, or throws an {@link Exception} if unable to do so
+     * @param first the possibly-null first argument of {@code function}
+     * @param second the possibly-null second argument of {@code function}
+     * @return a successful {@code Result} holding the value produced by {@code function} if it completed as intended;
+     *     otherwise a failed {@code Result} holding the {@code Exception} thrown by {@code function}
+     * @throws NullPointerException if {@code function} is {@code null} or returns {@code null}
+     */
+    public static <S, A, B> Result<S, Exception> ofBiFunction(
+            CheckedBiFunction<? super A, ? super B, ? extends S> function, A first, B second) {
+        requireNonNull(function, "function");
+        final CallableEvent event = CallableEvent.begin();
+        final S success;
+        try {
+            success = function.apply(first, second);
+        } catch (Exception exception) {
+            FailureTrace.record(exception);
+            return event.complete(new Failure<>(exception));
+        }
+        requireNonNull(success, "success value returned by function");
+        return event.complete(new Success<>(success));
+    }
+
+    /**
+     * Creates a new {@link Result} based on a {@link Callable} task, recording how long it takes.
+     * <p>
+     * The latency of {@code task} is recorded in either {@link ResultLatency#successes()} or
+     * {@link ResultLatency#failures()}, depending on the outcome.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param task the {@code Callable} that produces a success value, or throws an {@link Exception} if unable to do so
+     * @param latency the latency distributions to record into
+     * @return a successful {@code Result} holding the value produced by {@code task} if it completed as intended;
+     *     otherwise a failed {@code Result} holding the {@code Exception} thrown by {@code task}
+     * @throws NullPointerException if either {@code task} or {@code latency} is {@code null}, or if {@code task}
+     *     returns {@code null}
+     */
+    public static <S> Result<S, Exception> ofCallable(Callable<? extends S> task, ResultLatency latency) {
+        requireNonNull(latency, "latency");
+        final long start = System.nanoTime();
+        final Result<S, Exception> result = ofCallable(task);
+        latency.record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Checks if a {@link Result} is successful.
+     * <p>
+     * This is equivalent to {@code result.hasSuccess()}, but results created by this class are checked directly
+     * instead of through the {@code Result} interface. Call sites that see more than two {@code Result}
+     * implementations, such as third-party results or lazy wrappers, become megamorphic and can no longer be inlined;
+     * calling this method instead keeps the common case fast and falls back to the interface only for other
+     * implementations.
+     *
+     * @param result the result to check
+     * @return {@code true} if {@code result} is successful; {@code false} otherwise
+     * @throws NullPointerException if {@code result} is {@code null}
+     */
+    public static boolean hasSuccess(Result<?, ?> result) {
+        if (result instanceof Success) return true;
+        if (result instanceof Failure) return false;
+        return requireNonNull(result, "result").hasSuccess();
+    }
+
+    /**
+     * Retrieves the success value of a {@link Result}, or a given value if failed.
+     * <p>
+     * This is equivalent to {@code result.orElse(other)}, but avoids the {@code Result} interface in the same way as
+     * {@link #hasSuccess(Result)}.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param result the result to retrieve the success value from
+     * @param other the possibly-null value to return if {@code result} is failed
+     * @return the success value of {@code result} if successful; otherwise {@code other}
+     * @throws NullPointerException if {@code result} is {@code null}
+     */
+    public static <S> S orElse(Result<S, ?> result, S other) {
+        if (result instanceof Success) return ((Success<S, ?>) result).value;
+        if (result instanceof Failure) return other;
+        return requireNonNull(result, "result").orElse(other);
+    }
+
+    /**
+     * Retrieves the success value of a {@link Result}, or transforms its failure value if failed.
+     * <p>
+     * This is equivalent to {@code result.orElseMap(mapper)}, but avoids the {@code Result} interface in the same way
+     * as {@link #hasSuccess(Result)}.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param result the result to retrieve the success value from
+     * @param mapper the mapping function that produces a possibly-null value if {@code result} is failed
+     * @return the success value of {@code result} if successful; otherwise the value produced by {@code mapper}
+     * @throws NullPointerException if {@code result} is {@code null}, or if {@code result} is failed and
+     *     {@code mapper} is {@code null}
+     */
+    public static <S, F> S orElseMap(Result<S, F> result, Function<? super F, ? extends S> mapper) {
+        if (result instanceof Success) return ((Success<S, F>) result).value;
+        if (result instanceof Failure) {
+            requireNonNull(mapper, "mapper");
+            return mapper.apply(((Failure<S, F>) result).value);
+        }
+        return requireNonNull(result, "result").orElseMap(mapper);
+    }
+
+    /**
+     * Transforms the success value of a {@link Result}.
+     * <p>
+     * This is equivalent to {@code result.mapSuccess(mapper)}, but avoids the {@code Result} interface in the same
+     * way as {@link #hasSuccess(Result)}.
+     *
+     * @param <S> the success type of the original {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param <S2> the success type of the new {@code Result}
+     * @param result the result to transform
+     * @param mapper the mapping function that produces a non-null success value
+     * @return a new successful {@code Result} holding the value produced by {@code mapper} if {@code result} is
+     *     successful; otherwise {@code result} itself
+     * @throws NullPointerException if {@code result} is {@code null}, or if {@code result} is successful and
+     *     {@code mapper} is {@code null} or returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, F, S2> Result<S2, F> mapSuccess(
+            Result<S, F> result, Function<? super S, ? extends S2> mapper) {
+        if (result instanceof Success) {
+            requireNonNull(mapper, "mapper");
+            final S2 success = mapper.apply(((Success<S, F>) result).value);
+            return new Success<>(requireNonNull(success, "success value returned by mapper"));
+        }
+        if (result instanceof Failure) return (Result<S2, F>) result;
+        return requireNonNull(result, "result").mapSuccess(mapper);
+    }
+
+    /**
+     * Transforms the failure value of a {@link Result}.
+     * <p>
+     * This is equivalent to {@code result.mapFailure(mapper)}, but avoids the {@code Result} interface in the same
+     * way as {@link #hasSuccess(Result)}.
+     *
+     * @param <S> the success type of the {@code Result}
+     * @param <F> the failure type of the original {@code Result}
+     * @param <F2> the failure type of the new {@code Result}
+     * @param result the result to transform
+     * @param mapper the mapping function that produces a non-null failure value
+     * @return a new failed {@code Result} holding the value produced by {@code mapper} if {@code result} is failed;
+     *     otherwise {@code result} itself
+     * @throws NullPointerException if {@code result} is {@code null}, or if {@code result} is failed and
+     *     {@code mapper} is {@code null} or returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, F, F2> Result<S, F2> mapFailure(
+            Result<S, F> result, Function<? super F, ? extends F2> mapper) {
+        if (result instanceof Success) return (Result<S, F2>) result;
+        if (result instanceof Failure) {
+            requireNonNull(mapper, "mapper");
+            final F2 failure = mapper.apply(((Failure<S, F>) result).value);
+            return new Failure<>(requireNonNull(failure, "failure value returned by mapper"));
+        }
+        return requireNonNull(result, "result").mapFailure(mapper);
+    }
+
+    /**
+     * Transforms the success value of a {@link Result} into a new {@code Result}.
+     * <p>
+     * This is equivalent to {@code result.flatMapSuccess(mapper)}, but avoids the {@code Result} interface in the
+     * same way as {@link #hasSuccess(Result)}.
+     *
+     * @param <S> the success type of the original {@code Result}
+     * @param <F> the failure type of the {@code Result}
+     * @param <S2> the success type of the new {@code Result}
+     * @param result the result to transform
+     * @param mapper the mapping function that produces a non-null {@code Result}
+     * @return the {@code Result} produced by {@code mapper} if {@code result} is successful; otherwise {@code result}
+     *     itself
+     * @throws NullPointerException if {@code result} is {@code null}, or if {@code result} is successful and
+     *     {@code mapper} is {@code null} or returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, F, S2> Result<S2, F> flatMapSuccess(
+            Result<S, F> result, Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper) {
+        if (result instanceof Success) {
+            requireNonNull(mapper, "mapper");
+            final Result<?, ?> next = mapper.apply(((Success<S, F>) result).value);
+            return (Result<S2, F>) requireNonNull(next, "result object returned by mapper");
+        }
+        if (result instanceof Failure) return (Result<S2, F>) result;
+        return requireNonNull(result, "result").flatMapSuccess(mapper);
+    }
+
+    /** Wraps an exception of a given type in a failed result, or rethrows it if it is unchecked. */
+    private static <S, X extends Exception> Result<S, X> capture(Exception exception, Class<X> exceptionType) {
+        if (!exceptionType.isInstance(exception)) throw (RuntimeException) exception;
+        final X failure = exceptionType.cast(exception);
+        FailureTrace.record(failure);
+        return new Failure<>(failure);
     }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads that run the subtasks of a {@link ResultScope}.
+ * <p>
+ * This implementation creates platform daemon threads. On JDK 21 and later, virtual threads are created instead.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class ScopeThreads {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private ScopeThreads() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    static ThreadFactory factory() {
+        return task -> {
+            final Thread thread = new Thread(task, "result-scope-" + COUNTER.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
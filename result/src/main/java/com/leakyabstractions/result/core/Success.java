@@ -29,14 +29,17 @@ import com.leakyabstractions.result.api.Result;
 
 /**
  * Default implementation of a successful {@link Result}.
+ * <p>
+ * This class is only extended by {@link HashedSuccess}, so that both share the same behavior and are recognized by the
+ * same type checks.
  *
  * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
  * @param <S> the type of the success value
  * @param <F> the type of the failure value
  */
-final class Success<S, F> implements Result<S, F> {
+class Success<S, F> implements Result<S, F> {
 
-    private final S value;
+    final S value;
 
     Success(S value) {
         this.value = value;
@@ -169,8 +172,7 @@ final class Success<S, F> implements Result<S, F> {
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
-        if (!(obj instanceof Success)) return false;
-        return Objects.equals(this.value, ((Success<?, ?>) obj).value);
+        return obj instanceof Success && Objects.equals(this.value, ((Success<?, ?>) obj).value);
     }
 
     @Override
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary encoder and decoder of values held by {@link com.leakyabstractions.result.api.Result Result} objects.
+ * <p>
+ * Values encoded into a {@link ByteBuffer} can be read from a {@link DataInput} and vice versa.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the values
+ * @see ResultCodec
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Encodes a value into a {@link ByteBuffer}.
+     *
+     * @param value the value to encode
+     * @param buffer the buffer to encode into
+     * @throws java.nio.BufferOverflowException if there is not enough space left in {@code buffer}
+     */
+    void encode(T value, ByteBuffer buffer);
+
+    /**
+     * Decodes a value from a {@link ByteBuffer}.
+     *
+     * @param buffer the buffer to decode from
+     * @return the decoded value
+     * @throws IllegalArgumentException if {@code buffer} does not contain an encoded value
+     * @throws java.nio.BufferUnderflowException if there are not enough bytes left in {@code buffer}
+     */
+    T decode(ByteBuffer buffer);
+
+    /**
+     * Writes a value to a {@link DataOutput}.
+     *
+     * @param value the value to write
+     * @param output the output to write to
+     * @throws IOException if an I/O error occurs
+     */
+    void write(T value, DataOutput output) throws IOException;
+
+    /**
+     * Reads a value from a {@link DataInput}.
+     *
+     * @param input the input to read from
+     * @return the value read
+     * @throws IOException if an I/O error occurs, or if {@code input} does not contain an encoded value
+     */
+    T read(DataInput input) throws IOException;
+
+    /**
+     * Returns a codec for {@link String} values.
+     * <p>
+     * Strings are encoded as the length of their UTF-8 representation, followed by the UTF-8 bytes.
+     *
+     * @return a codec for {@code String} values
+     */
+    static ValueCodec<String> ofString() {
+        return ValueCodecs.STRING;
+    }
+
+    /**
+     * Returns a codec for {@link Integer} values.
+     *
+     * @return a codec for {@code Integer} values, encoded as four bytes
+     */
+    static ValueCodec<Integer> ofInteger() {
+        return ValueCodecs.INTEGER;
+    }
+
+    /**
+     * Returns a codec for {@link Long} values.
+     *
+     * @return a codec for {@code Long} values, encoded as eight bytes
+     */
+    static ValueCodec<Long> ofLong() {
+        return ValueCodecs.LONG;
+    }
+
+    /**
+     * Returns a codec for {@link Double} values.
+     *
+     * @return a codec for {@code Double} values, encoded as eight bytes
+     */
+    static ValueCodec<Double> ofDouble() {
+        return ValueCodecs.DOUBLE;
+    }
+}
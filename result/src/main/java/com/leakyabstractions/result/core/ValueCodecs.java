@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Standard {@link ValueCodec} implementations.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class ValueCodecs {
+
+    static final ValueCodec<String> STRING = new StringCodec();
+    static final ValueCodec<Integer> INTEGER = new IntegerCodec();
+    static final ValueCodec<Long> LONG = new LongCodec();
+    static final ValueCodec<Double> DOUBLE = new DoubleCodec();
+
+    private ValueCodecs() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    private static final class StringCodec implements ValueCodec<String> {
+
+        private static final int CHUNK_SIZE = 8192;
+
+        @Override
+        public void encode(String value, ByteBuffer buffer) {
+            buffer.putInt(utf8Length(value));
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                final int codePoint = codePointAt(value, i);
+                if (codePoint < 0x80) {
+                    buffer.put((byte) codePoint);
+                } else if (codePoint < 0x800) {
+                    buffer.put((byte) (0xC0 | codePoint >> 6));
+                    buffer.put((byte) (0x80 | codePoint & 0x3F));
+                } else if (codePoint < 0x10000) {
+                    buffer.put((byte) (0xE0 | codePoint >> 12));
+                    buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint & 0x3F));
+                } else {
+                    buffer.put((byte) (0xF0 | codePoint >> 18));
+                    buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint & 0x3F));
+                    i++;
+                }
+            }
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            final int length = buffer.getInt();
+            if (length < 0) throw new IllegalArgumentException("Invalid string length: " + length);
+            // Check the length prefix before allocating anything, so that corrupt input cannot exhaust the heap
+            if (length > buffer.remaining()) throw new BufferUnderflowException();
+            if (buffer.hasArray()) {
+                final int offset = buffer.arrayOffset() + buffer.position();
+                buffer.position(buffer.position() + length);
+                return new String(buffer.array(), offset, length, UTF_8);
+            }
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, UTF_8);
+        }
+
+        @Override
+        public void write(String value, DataOutput output) throws IOException {
+            output.writeInt(utf8Length(value));
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                final int codePoint = codePointAt(value, i);
+                if (codePoint < 0x80) {
+                    output.write(codePoint);
+                } else if (codePoint < 0x800) {
+                    output.write(0xC0 | codePoint >> 6);
+                    output.write(0x80 | codePoint & 0x3F);
+                } else if (codePoint < 0x10000) {
+                    output.write(0xE0 | codePoint >> 12);
+                    output.write(0x80 | codePoint >> 6 & 0x3F);
+                    output.write(0x80 | codePoint & 0x3F);
+                } else {
+                    output.write(0xF0 | codePoint >> 18);
+                    output.write(0x80 | codePoint >> 12 & 0x3F);
+                    output.write(0x80 | codePoint >> 6 & 0x3F);
+                    output.write(0x80 | codePoint & 0x3F);
+                    i++;
+                }
+            }
+        }
+
+        @Override
+        public String read(DataInput input) throws IOException {
+            final int length = input.readInt();
+            if (length < 0) throw new IOException("Invalid string length: " + length);
+            // The number of bytes left is unknown, so grow the array as bytes arrive instead of trusting the prefix
+            byte[] bytes = new byte[Math.min(length, CHUNK_SIZE)];
+            input.readFully(bytes);
+            while (bytes.length < length) {
+                final int read = bytes.length;
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+                input.readFully(bytes, read, bytes.length - read);
+            }
+            return new String(bytes, UTF_8);
+        }
+
+        /** Returns the code point at a given index, replacing unpaired surrogates with a question mark. */
+        private static int codePointAt(String value, int index) {
+            final char c = value.charAt(index);
+            if (!Character.isSurrogate(c)) return c;
+            final int codePoint = value.codePointAt(index);
+            return Character.isSupplementaryCodePoint(codePoint) ? codePoint : '?';
+        }
+
+        private static int utf8Length(String value) {
+            final int length = value.length();
+            int bytes = length;
+            for (int i = 0; i < length; i++) {
+                final int codePoint = codePointAt(value, i);
+                if (codePoint >= 0x10000) {
+                    bytes += 2;
+                    i++;
+                } else if (codePoint >= 0x800) {
+                    bytes += 2;
+                } else if (codePoint >= 0x80) {
+                    bytes += 1;
+                }
+            }
+            return bytes;
+        }
+    }
+
+    private static final class IntegerCodec implements ValueCodec<Integer> {
+
+        @Override
+        public void encode(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+
+        @Override
+        public void write(Integer value, DataOutput output) throws IOException {
+            output.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput input) throws IOException {
+            return input.readInt();
+        }
+    }
+
+    private static final class LongCodec implements ValueCodec<Long> {
+
+        @Override
+        public void encode(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+
+        @Override
+        public void write(Long value, DataOutput output) throws IOException {
+            output.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput input) throws IOException {
+            return input.readLong();
+        }
+    }
+
+    private static final class DoubleCodec implements ValueCodec<Double> {
+
+        @Override
+        public void encode(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+
+        @Override
+        public void write(Double value, DataOutput output) throws IOException {
+            output.writeDouble(value);
+        }
+
+        @Override
+        public Double read(DataInput input) throws IOException {
+            return input.readDouble();
+        }
+    }
+}
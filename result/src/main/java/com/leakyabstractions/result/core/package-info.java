@@ -12,6 +12,11 @@
  * <ul>
  * <li>{@link com.leakyabstractions.result.core.Results#success(java.lang.Object) Results.success(S)}
  * </ul>
+ * <p>
+ * Successful results that hold large immutable values and are used as hash keys can cache the hash code of the value.
+ * <ul>
+ * <li>{@link com.leakyabstractions.result.core.Results#hashedSuccess(java.lang.Object) Results.hashedSuccess(S)}
+ * </ul>
  * <h4>Failed Results</h4>
  * <p>
  * On the other hand, a failed result holds a value representing the problem that prevented the operation from
@@ -19,6 +24,13 @@
  * <ul>
  * <li>{@link com.leakyabstractions.result.core.Results#failure(java.lang.Object) Results.failure(S)}
  * </ul>
+ * <p>
+ * Failures that are repeated over and over, such as error codes with fixed messages, can be interned so that equal
+ * failure values share the same result object.
+ * <ul>
+ * <li>{@link com.leakyabstractions.result.core.Results#internedFailure(java.lang.Object) Results.internedFailure(F)}
+ * <li>{@link com.leakyabstractions.result.core.FailurePool#failure(java.lang.Object) FailurePool.failure(F)}
+ * </ul>
  * <h4>Results Based on Nullable Values</h4>
  * <p>
  * When we need to create results that depend on a possibly null value. If the first argument is {@code null}, then the
@@ -48,6 +60,29 @@
  * <ul>
  * <li>{@link com.leakyabstractions.result.core.Results#ofCallable(java.util.concurrent.Callable)
  * Results.ofCallable(Callable&lt;S&gt;)}.
+ * <li>{@link com.leakyabstractions.result.core.Results#ofCallable(com.leakyabstractions.result.core.CheckedCallable,
+ * java.lang.Class) Results.ofCallable(CheckedCallable&lt;S, X&gt;, Class&lt;X&gt;)}.
+ * </ul>
+ * <p>
+ * Functions can also receive their arguments directly, so that call sites can use static method references instead of
+ * capturing lambdas.
+ * <ul>
+ * <li>{@link com.leakyabstractions.result.core.Results#ofFunction(com.leakyabstractions.result.core.CheckedFunction,
+ * java.lang.Object) Results.ofFunction(CheckedFunction&lt;A, S, X&gt;, A)}.
+ * <li>{@link com.leakyabstractions.result.core.Results#ofBiFunction(
+ * com.leakyabstractions.result.core.CheckedBiFunction, java.lang.Object, java.lang.Object)
+ * Results.ofBiFunction(CheckedBiFunction&lt;A, B, S&gt;, A, B)}.
+ * </ul>
+ * <p>
+ * On JDK 11 and later, tasks that take longer than 20 milliseconds are reported as
+ * {@code com.leakyabstractions.result.Callable} Java Flight Recorder events. The threshold can be adjusted via JFR
+ * settings.
+ * <p>
+ * Latency distributions can be recorded too, split by success and failure, by passing a
+ * {@link com.leakyabstractions.result.core.ResultLatency ResultLatency}.
+ * <ul>
+ * <li>{@link com.leakyabstractions.result.core.Results#ofCallable(java.util.concurrent.Callable,
+ * com.leakyabstractions.result.core.ResultLatency) Results.ofCallable(Callable&lt;S&gt;, ResultLatency)}.
  * </ul>
  *
  * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import com.leakyabstractions.result.api.Result;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Monitors the execution of tasks encapsulated as {@link Result} objects.
+ * <p>
+ * This version emits {@link CallableFlightEvent Java Flight Recorder events} while the event is enabled. Whether the
+ * {@code jdk.jfr} module is available is checked only once; if it is not, this class does nothing, as in JDK 8.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class CallableEvent {
+
+    private static final CallableEvent DISABLED = new CallableEvent();
+
+    private CallableEvent() {
+        // Use the factory method
+    }
+
+    /**
+     * Starts timing a task.
+     *
+     * @return the event that monitors the task
+     */
+    static CallableEvent begin() {
+        final EventType type = FlightRecorderHolder.EVENT_TYPE;
+        return type != null && type.isEnabled() ? new Recording() : DISABLED;
+    }
+
+    /**
+     * Stops timing the task.
+     *
+     * @param <R> the type of the {@code Result}
+     * @param result the outcome of the task, or {@code null} if it threw an exception that was not captured
+     * @return {@code result}
+     */
+    <R extends Result<?, ?>> R complete(R result) {
+        return result;
+    }
+
+    /** Monitors a task while the Java Flight Recorder event is enabled. */
+    private static final class Recording extends CallableEvent {
+
+        private final CallableFlightEvent event = new CallableFlightEvent();
+
+        Recording() {
+            this.event.begin();
+        }
+
+        @Override
+        <R extends Result<?, ?>> R complete(R result) {
+            this.event.complete(result);
+            return result;
+        }
+    }
+
+    /** Looks up the Java Flight Recorder event type once, unless the {@code jdk.jfr} module is not available. */
+    private static final class FlightRecorderHolder {
+
+        static final EventType EVENT_TYPE = eventType();
+
+        private static EventType eventType() {
+            if (!ModuleLayer.boot().findModule("jdk.jfr").isPresent() || !FlightRecorder.isAvailable()) {
+                return null;
+            }
+            return EventType.getEventType(CallableFlightEvent.class);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import com.leakyabstractions.result.api.Result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder event that monitors the execution of tasks encapsulated as {@link Result} objects.
+ * <p>
+ * This class is only loaded by {@link CallableEvent} when the {@code jdk.jfr} module is available. Only tasks that
+ * take longer than the configured threshold are recorded. The threshold can be changed via the
+ * {@code com.leakyabstractions.result.Callable#threshold} setting.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@Name("com.leakyabstractions.result.Callable")
+@Label("Result Callable")
+@Description("Execution of a task encapsulated as a Result")
+@Category("Result Library")
+@Threshold("20 ms")
+@StackTrace(false)
+final class CallableFlightEvent extends Event {
+
+    @Label("Success")
+    @Description("Whether the task completed successfully")
+    boolean success;
+
+    @Label("Failure Type")
+    @Description("Type of the failure value, if the task failed")
+    Class<?> failureType;
+
+    /**
+     * Stops timing the task and commits this event if it exceeded the threshold.
+     *
+     * @param result the outcome of the task, or {@code null} if it threw an exception that was not captured
+     */
+    void complete(Result<?, ?> result) {
+        end();
+        if (shouldCommit()) {
+            success = result != null && result.hasSuccess();
+            failureType = result == null ? null : result.getFailure().map(Object::getClass).orElse(null);
+            commit();
+        }
+    }
+}
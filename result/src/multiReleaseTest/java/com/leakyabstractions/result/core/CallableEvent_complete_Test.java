@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests for {@link CallableEvent#complete(com.leakyabstractions.result.api.Result)}, as packaged in the multi-release
+ * jar.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("CallableEvent complete")
+class CallableEvent_complete_Test {
+
+    private static final String EVENT_NAME = "com.leakyabstractions.result.Callable";
+
+    @Test
+    void should_load_flight_recorder_event_from_multi_release_jar() throws ClassNotFoundException {
+        // When
+        final Class<?> type = Class.forName("com.leakyabstractions.result.core.CallableFlightEvent");
+        // Then
+        assertThat(Event.class.isAssignableFrom(type)).isTrue();
+    }
+
+    @Test
+    void should_not_create_events_when_not_recording() {
+        // When
+        final CallableEvent event1 = CallableEvent.begin();
+        final CallableEvent event2 = CallableEvent.begin();
+        // Then
+        assertThat(event1).isSameAs(event2);
+    }
+
+    @Test
+    void should_record_success_when_task_succeeds() throws Exception {
+        // When
+        final List<RecordedEvent> events = record(() -> Results.ofCallable(() -> "SUCCESS"));
+        // Then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getBoolean("success")).isTrue();
+        assertThat(events.get(0).getClass("failureType")).isNull();
+    }
+
+    @Test
+    void should_record_failure_type_when_task_fails() throws Exception {
+        // When
+        final List<RecordedEvent> events = record(() -> Results.ofCallable(() -> {
+            throw new IOException("FAILURE");
+        }));
+        // Then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getBoolean("success")).isFalse();
+        assertThat(events.get(0).getClass("failureType").getName()).isEqualTo(IOException.class.getName());
+    }
+
+    @Test
+    void should_record_event_when_exception_propagates() throws Exception {
+        // When
+        final List<RecordedEvent> events = record(() -> catchThrowable(() -> Results.ofCallable(() -> {
+            throw new IllegalStateException("FAILURE");
+        }, IOException.class)));
+        // Then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getBoolean("success")).isFalse();
+        assertThat(events.get(0).getClass("failureType")).isNull();
+    }
+
+    private static List<RecordedEvent> record(Runnable action) throws IOException {
+        final Path file = Files.createTempFile("result", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
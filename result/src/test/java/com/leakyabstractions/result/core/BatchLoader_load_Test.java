@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link BatchLoader#load(Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("BatchLoader load")
+class BatchLoader_load_Test {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private final List<Set<Integer>> batches = new ArrayList<>();
+
+    private final Function<Set<Integer>, Callable<Map<Integer, String>>> squares = keys -> () -> {
+        this.batches.add(keys);
+        final Map<Integer, String> map = new HashMap<>();
+        for (Integer key : keys) {
+            if (key >= 0) map.put(key, String.valueOf(key * key));
+        }
+        return map;
+    };
+
+    @Test
+    void should_throw_exception_when_invalid_arguments() {
+        // Given
+        final ScheduledExecutorService none = null;
+        // When
+        final Throwable thrown1 = catchThrowable(() -> BatchLoader.of(null, 1, 1, TimeUnit.SECONDS));
+        final Throwable thrown2 = catchThrowable(() -> BatchLoader.of(this.squares, 1, 1, null));
+        final Throwable thrown3 = catchThrowable(() -> BatchLoader.of(this.squares, 1, 1, TimeUnit.SECONDS, null));
+        final Throwable thrown4 = catchThrowable(() -> BatchLoader.of(this.squares, 0, 1, TimeUnit.SECONDS));
+        final Throwable thrown5 = catchThrowable(() -> BatchLoader.of(this.squares, 1, 0, TimeUnit.SECONDS));
+        final Throwable thrown6 = catchThrowable(() -> BatchLoader.of(this.squares, 1, 1, TimeUnit.DAYS, DIRECT, none));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+        assertThat(thrown3).isInstanceOf(NullPointerException.class);
+        assertThat(thrown4).isInstanceOf(IllegalArgumentException.class);
+        assertThat(thrown5).isInstanceOf(IllegalArgumentException.class);
+        assertThat(thrown6).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_execute_batch_when_full() {
+        // Given
+        final BatchLoader<Integer, String> loader = BatchLoader.of(this.squares, 3, 1, TimeUnit.HOURS, DIRECT);
+        // When
+        final CompletableFuture<Result<String, Exception>> future1 = loader.load(1);
+        final CompletableFuture<Result<String, Exception>> future2 = loader.load(2);
+        final boolean done = future1.isDone();
+        final CompletableFuture<Result<String, Exception>> future3 = loader.load(3);
+        // Then
+        assertThat(done).isFalse();
+        assertThat(this.batches).containsExactly(set(1, 2, 3));
+        assertThat(future1.join().orElse(null)).isEqualTo("1");
+        assertThat(future2.join().orElse(null)).isEqualTo("4");
+        assertThat(future3.join().orElse(null)).isEqualTo("9");
+    }
+
+    @Test
+    void should_share_result_when_same_key() {
+        // Given
+        final BatchLoader<Integer, String> loader = BatchLoader.of(this.squares, 2, 1, TimeUnit.HOURS, DIRECT);
+        // When
+        final CompletableFuture<Result<String, Exception>> future1 = loader.load(5);
+        final CompletableFuture<Result<String, Exception>> future2 = loader.load(5);
+        loader.load(6);
+        // Then
+        assertThat(future1).isSameAs(future2);
+        assertThat(this.batches).containsExactly(set(5, 6));
+    }
+
+    @Test
+    void should_execute_batch_when_delay_elapses() {
+        // Given
+        final BatchLoader<Integer, String> loader = BatchLoader.of(this.squares, 100, 1, TimeUnit.MILLISECONDS);
+        // When
+        final Result<String, Exception> result = loader.load(7).join();
+        // Then
+        assertThat(result.orElse(null)).isEqualTo("49");
+    }
+
+    @Test
+    void should_return_failure_when_key_is_missing() {
+        // Given
+        final BatchLoader<Integer, String> loader = BatchLoader.of(this.squares, 10, 1, TimeUnit.HOURS, DIRECT);
+        final CompletableFuture<Result<String, Exception>> future1 = loader.load(-1);
+        final CompletableFuture<Result<String, Exception>> future2 = loader.load(2);
+        // When
+        loader.flush();
+        // Then
+        assertThat(future1.join().getFailure().orElse(null)).isInstanceOf(NoSuchElementException.class);
+        assertThat(future2.join().orElse(null)).isEqualTo("4");
+    }
+
+    @Test
+    void should_return_failures_when_bulk_task_throws_exception() {
+        // Given
+        final IOException exception = new IOException("unavailable");
+        final Function<Set<Integer>, Callable<Map<Integer, String>>> bulk = keys -> () -> {
+            throw exception;
+        };
+        final BatchLoader<Integer, String> loader = BatchLoader.of(bulk, 2, 1, TimeUnit.HOURS, DIRECT);
+        // When
+        final CompletableFuture<Result<String, Exception>> future1 = loader.load(1);
+        final CompletableFuture<Result<String, Exception>> future2 = loader.load(2);
+        // Then
+        assertThat(future1.join().getFailure().orElse(null)).isSameAs(exception);
+        assertThat(future2.join().getFailure().orElse(null)).isSameAs(exception);
+    }
+
+    @Test
+    void should_share_failure_when_bulk_task_throws_exception() {
+        // Given
+        final Function<Set<Integer>, Callable<Map<Integer, String>>> bulk = keys -> () -> {
+            throw new IOException("unavailable");
+        };
+        final BatchLoader<Integer, String> loader = BatchLoader.of(bulk, 2, 1, TimeUnit.HOURS, DIRECT);
+        // When
+        final CompletableFuture<Result<String, Exception>> future1 = loader.load(1);
+        final CompletableFuture<Result<String, Exception>> future2 = loader.load(2);
+        // Then
+        assertThat(future1.join()).isSameAs(future2.join());
+    }
+
+    @Test
+    void should_complete_exceptionally_when_bulk_function_throws_error() {
+        // Given
+        final AssertionError error = new AssertionError("unavailable");
+        final Function<Set<Integer>, Callable<Map<Integer, String>>> bulk = keys -> {
+            throw error;
+        };
+        final List<Throwable> uncaught = new ArrayList<>();
+        final Executor executor = task -> {
+            try {
+                task.run();
+            } catch (Error e) {
+                uncaught.add(e);
+            }
+        };
+        final BatchLoader<Integer, String> loader = BatchLoader.of(bulk, 2, 1, TimeUnit.HOURS, executor);
+        // When
+        final CompletableFuture<Result<String, Exception>> future1 = loader.load(1);
+        final CompletableFuture<Result<String, Exception>> future2 = loader.load(2);
+        // Then
+        assertThat(future1.isCompletedExceptionally()).isTrue();
+        assertThat(future2.isCompletedExceptionally()).isTrue();
+        assertThat(catchThrowable(future1::join).getCause()).isSameAs(error);
+        assertThat(uncaught).containsExactly(error);
+    }
+
+    @Test
+    void should_use_given_scheduler() {
+        // Given
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final BatchLoader<Integer, String> loader =
+                BatchLoader.of(this.squares, 100, 1, TimeUnit.MILLISECONDS, DIRECT, scheduler);
+        // When
+        final Result<String, Exception> result1 = loader.load(7).join();
+        scheduler.shutdown();
+        final Result<String, Exception> result2 = loader.load(8).join();
+        // Then
+        assertThat(result1.orElse(null)).isEqualTo("49");
+        assertThat(result2.orElse(null)).isEqualTo("64");
+    }
+
+    @Test
+    void should_return_failures_when_bulk_task_returns_null() {
+        // Given
+        final Function<Set<Integer>, Callable<Map<Integer, String>>> bulk = keys -> () -> null;
+        final BatchLoader<Integer, String> loader = BatchLoader.of(bulk, 1, 1, TimeUnit.HOURS, DIRECT);
+        // When
+        final Result<String, Exception> result = loader.load(1).join();
+        // Then
+        assertThat(result.getFailure().orElse(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_failures_when_executor_rejects_batch() {
+        // Given
+        final Executor executor = task -> {
+            throw new RejectedExecutionException("busy");
+        };
+        final BatchLoader<Integer, String> loader = BatchLoader.of(this.squares, 1, 1, TimeUnit.HOURS, executor);
+        // When
+        final Result<String, Exception> result = loader.load(1).join();
+        // Then
+        assertThat(result.getFailure().orElse(null)).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_closed() {
+        // Given
+        final BatchLoader<Integer, String> loader = BatchLoader.of(this.squares, 10, 1, TimeUnit.HOURS, DIRECT);
+        final CompletableFuture<Result<String, Exception>> future = loader.load(3);
+        // When
+        loader.close();
+        loader.flush();
+        final Throwable thrown = catchThrowable(() -> loader.load(4));
+        // Then
+        assertThat(future.join().orElse(null)).isEqualTo("9");
+        assertThat(this.batches).containsExactly(set(3));
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Set<Integer> set(Integer... keys) {
+        return new LinkedHashSet<>(Arrays.asList(keys));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link FailurePool#failure(Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("FailurePool failure")
+class FailurePool_failure_Test {
+
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null() {
+        // Given
+        final FailurePool pool = FailurePool.of(16);
+        // When
+        final Throwable thrown = catchThrowable(() -> pool.failure(null));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_same_instance_when_equal_failure_values() {
+        // Given
+        final FailurePool pool = FailurePool.of(16);
+        // When
+        final Result<String, String> result1 = pool.failure(FAILURE);
+        final Result<Integer, String> result2 = pool.failure(new String("FAILURE"));
+        // Then
+        assertThat(result1).isEqualTo(Results.failure(FAILURE));
+        assertThat(result2).isSameAs(result1);
+    }
+
+    @Test
+    void should_return_different_instances_when_different_failure_values() {
+        // Given
+        final FailurePool pool = FailurePool.of(16);
+        // When
+        final Result<String, Integer> result1 = pool.failure(1);
+        final Result<String, Integer> result2 = pool.failure(2);
+        // Then
+        assertThat(result1).isEqualTo(Results.failure(1));
+        assertThat(result2).isEqualTo(Results.failure(2));
+    }
+
+    @Test
+    void should_cache_new_failures_when_full() {
+        // Given
+        final FailurePool pool = FailurePool.of(2);
+        pool.failure(1);
+        pool.failure(2);
+        // When
+        final Result<String, Integer> result1 = pool.failure(3);
+        final Result<String, Integer> result2 = pool.failure(3);
+        // Then
+        assertThat(result2).isSameAs(result1);
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void should_keep_recently_used_failures_when_full() {
+        // Given
+        final FailurePool pool = FailurePool.of(2);
+        final Result<String, Integer> result1 = pool.failure(1);
+        final Result<String, Integer> result2 = pool.failure(2);
+        pool.failure(1);
+        pool.failure(3);
+        // When
+        final Result<String, Integer> result3 = pool.failure(1);
+        final Result<String, Integer> result4 = pool.failure(2);
+        // Then
+        assertThat(result3).isSameAs(result1);
+        assertThat(result4).isNotSameAs(result2).isEqualTo(result2);
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void should_return_canonical_instances_when_loaded_with_thousands_of_failures() {
+        // Given
+        final int distinct = 3000;
+        final FailurePool pool = FailurePool.of(4096);
+        final List<Result<String, String>> first = new ArrayList<>(distinct);
+        for (int i = 0; i < distinct; i++) {
+            first.add(pool.failure("ERROR-" + i));
+        }
+        // When
+        int hits = 0;
+        for (int i = 0; i < distinct; i++) {
+            if (pool.<String, String>failure("ERROR-" + i) == first.get(i)) hits++;
+        }
+        // Then
+        assertThat(hits).isEqualTo(distinct);
+        assertThat(pool.size()).isEqualTo(distinct);
+    }
+}
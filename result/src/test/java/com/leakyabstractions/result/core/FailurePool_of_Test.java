@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link FailurePool#of(int)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("FailurePool of")
+class FailurePool_of_Test {
+
+    @Test
+    void should_throw_exception_when_capacity_is_out_of_bounds() {
+        // When
+        final Throwable thrown1 = catchThrowable(() -> FailurePool.of(0));
+        final Throwable thrown2 = catchThrowable(() -> FailurePool.of((1 << 30) + 1));
+        // Then
+        assertThat(thrown1).isInstanceOf(IllegalArgumentException.class);
+        assertThat(thrown2).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_create_empty_pool_with_given_capacity() {
+        // When
+        final FailurePool pool1 = FailurePool.of(1);
+        final FailurePool pool2 = FailurePool.of(1000);
+        // Then
+        assertThat(pool1.capacity()).isEqualTo(1);
+        assertThat(pool2.capacity()).isEqualTo(1000);
+        assertThat(pool2.size()).isZero();
+        assertThat(pool2).hasToString("FailurePool[capacity=1000, size=0]");
+    }
+}
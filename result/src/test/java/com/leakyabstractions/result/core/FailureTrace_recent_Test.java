@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link FailureTrace#recent()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("FailureTrace recent")
+class FailureTrace_recent_Test {
+
+    @AfterEach
+    void stop() {
+        FailureTrace.stop();
+    }
+
+    @Test
+    void should_return_empty_list_when_no_failures() {
+        // Given
+        final FailureTrace trace = FailureTrace.start(4, 1);
+        // When
+        Results.success("SUCCESS");
+        // Then
+        assertThat(trace.recent()).isEmpty();
+    }
+
+    @Test
+    void should_return_failures_oldest_first() {
+        // Given
+        final FailureTrace trace = FailureTrace.start(4, 1);
+        final IOException exception = new IOException("FAILURE");
+        // When
+        Results.failure("FAILURE");
+        Results.ofNullable(null, () -> 123);
+        Results.ofOptional(Optional.empty(), () -> 456);
+        Results.ofCallable(() -> {
+            throw exception;
+        });
+        // Then
+        final List<FailureTrace.Entry> recent = trace.recent();
+        assertThat(recent).hasSize(4);
+        assertThat(recent.get(0).failure()).isEqualTo("FAILURE");
+        assertThat(recent.get(1).failure()).isEqualTo(123);
+        assertThat(recent.get(2).failure()).isEqualTo(456);
+        assertThat(recent.get(3).failure()).isSameAs(exception);
+    }
+
+    @Test
+    void should_keep_most_recent_failures() {
+        // Given
+        final FailureTrace trace = FailureTrace.start(3, 1);
+        // When
+        for (int i = 0; i < 10; i++) {
+            Results.failure(i);
+        }
+        // Then
+        final List<FailureTrace.Entry> recent = trace.recent();
+        assertThat(trace.sampled()).isEqualTo(10L);
+        assertThat(recent).hasSize(4);
+        assertThat(recent.get(0).failure()).isEqualTo(6);
+        assertThat(recent.get(3).failure()).isEqualTo(9);
+    }
+
+    @Test
+    void should_include_call_site_thread_and_timestamp() {
+        // Given
+        final FailureTrace trace = FailureTrace.start(1, 1);
+        final long before = System.currentTimeMillis();
+        // When
+        Results.failure("FAILURE");
+        // Then
+        final FailureTrace.Entry entry = trace.recent().get(0);
+        assertThat(entry.callSite().map(StackTraceElement::getClassName)).contains(getClass().getName());
+        assertThat(entry.thread()).isEqualTo(Thread.currentThread().getName());
+        assertThat(entry.timestamp().toEpochMilli()).isGreaterThanOrEqualTo(before);
+        assertThat(entry.toString()).contains("FAILURE at " + getClass().getName());
+    }
+}
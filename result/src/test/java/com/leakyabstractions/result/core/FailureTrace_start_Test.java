@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link FailureTrace#start(int, int)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("FailureTrace start")
+class FailureTrace_start_Test {
+
+    @AfterEach
+    void stop() {
+        FailureTrace.stop();
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_capacity() {
+        // When
+        final Throwable thrown = catchThrowable(() -> FailureTrace.start(0, 1));
+        // Then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_sampling_rate() {
+        // When
+        final Throwable thrown = catchThrowable(() -> FailureTrace.start(1, 0));
+        // Then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_become_current_trace() {
+        // When
+        final FailureTrace trace = FailureTrace.start(1, 1);
+        // Then
+        assertThat(FailureTrace.current()).containsSame(trace);
+    }
+
+    @Test
+    void should_not_be_current_trace_when_stopped() {
+        // Given
+        FailureTrace.start(1, 1);
+        // When
+        FailureTrace.stop();
+        // Then
+        assertThat(FailureTrace.current()).isEmpty();
+    }
+
+    @Test
+    void should_sample_failures() {
+        // Given
+        final FailureTrace trace = FailureTrace.start(16, 1000);
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            Results.failure(i);
+        }
+        // Then
+        assertThat(trace.sampled()).isBetween(1L, 1000L);
+    }
+}
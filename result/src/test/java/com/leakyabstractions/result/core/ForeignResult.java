@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Third-party {@link Result} implementation that delegates to another result.
+ *
+ * @author Guillermo Calvo
+ */
+final class ForeignResult {
+
+    private ForeignResult() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    @SuppressWarnings("unchecked")
+    static <S, F> Result<S, F> of(Result<S, F> delegate) {
+        return (Result<S, F>) Proxy.newProxyInstance(
+                Result.class.getClassLoader(), new Class<?>[] {Result.class}, (proxy, method, args) -> {
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.HashedSuccess_hashCode_Test.CountingKey;
+
+/**
+ * Tests for {@link HashedSuccess#equals(Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("HashedSuccess equals")
+class HashedSuccess_equals_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+
+    @Test
+    void should_be_equal_to_itself() {
+        // Given
+        final Result<String, Integer> success = new HashedSuccess<>(SUCCESS);
+        // When
+        final boolean equals = success.equals(success);
+        // Then
+        assertThat(equals).isTrue();
+    }
+
+    @Test
+    void should_be_equal_to_a_successful_result_with_an_equal_value() {
+        // Given
+        final Result<String, Integer> success = new HashedSuccess<>(SUCCESS);
+        final Result<String, Integer> another = new HashedSuccess<>(new String("SUCCESS"));
+        final Result<String, Integer> plain = new Success<>(new String("SUCCESS"));
+        // Then
+        assertThat(success).isEqualTo(another);
+        assertThat(success).isEqualTo(plain);
+        assertThat(plain).isEqualTo(success);
+    }
+
+    @Test
+    void should_not_be_equal_to_a_successful_result_with_a_different_value() {
+        // Given
+        final Result<String, Integer> success = new HashedSuccess<>(SUCCESS);
+        final Result<String, Integer> another = new HashedSuccess<>("FAILURE");
+        // Then
+        assertThat(success).isNotEqualTo(another);
+        assertThat(success).isNotEqualTo(new Failure<>(SUCCESS));
+    }
+
+    @Test
+    void should_not_compare_values_when_hash_codes_are_different() {
+        // Given
+        final CountingKey key = new CountingKey(1);
+        final Result<CountingKey, Integer> success = new HashedSuccess<>(key);
+        final Result<CountingKey, Integer> another = new HashedSuccess<>(new CountingKey(2));
+        // When
+        final boolean equals = success.equals(another);
+        // Then
+        assertThat(equals).isFalse();
+        assertThat(key.comparisons.get()).isZero();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link HashedSuccess#hashCode()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("HashedSuccess hashCode")
+class HashedSuccess_hashCode_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+
+    @Test
+    void should_return_same_hash_code_as_the_value() {
+        // Given
+        final Result<String, Integer> success = new HashedSuccess<>(SUCCESS);
+        // Then
+        assertThat(success).hasSameHashCodeAs(SUCCESS);
+        assertThat(success).hasSameHashCodeAs(new Success<>(SUCCESS));
+    }
+
+    @Test
+    void should_compute_hash_code_once() {
+        // Given
+        final CountingKey key = new CountingKey(42);
+        final Result<CountingKey, Integer> success = new HashedSuccess<>(key);
+        // When
+        final int hash1 = success.hashCode();
+        final int hash2 = success.hashCode();
+        // Then
+        assertThat(hash1).isEqualTo(42);
+        assertThat(hash2).isEqualTo(42);
+        assertThat(key.hashes.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_return_zero_hash_code_when_value_hash_code_is_zero() {
+        // Given
+        final CountingKey key = new CountingKey(0);
+        final Result<CountingKey, Integer> success = new HashedSuccess<>(key);
+        // When
+        final int hash = success.hashCode();
+        // Then
+        assertThat(hash).isZero();
+    }
+
+    static final class CountingKey {
+
+        final AtomicInteger hashes = new AtomicInteger();
+        final AtomicInteger comparisons = new AtomicInteger();
+        final int hash;
+
+        CountingKey(int hash) {
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            this.comparisons.incrementAndGet();
+            return obj instanceof CountingKey && ((CountingKey) obj).hash == this.hash;
+        }
+
+        @Override
+        public int hashCode() {
+            this.hashes.incrementAndGet();
+            return this.hash;
+        }
+    }
+}
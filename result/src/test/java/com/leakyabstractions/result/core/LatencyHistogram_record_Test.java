@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LatencyHistogram#record(long)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LatencyHistogram record")
+class LatencyHistogram_record_Test {
+
+    @Test
+    void should_record_small_values_exactly() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        // When
+        histogram.record(0);
+        histogram.record(63);
+        // Then
+        assertThat(histogram.snapshot().min()).isEqualTo(0L);
+        assertThat(histogram.snapshot().max()).isEqualTo(63L);
+    }
+
+    @Test
+    void should_record_large_values_within_precision() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final long latency = TimeUnit.SECONDS.toNanos(3);
+        // When
+        histogram.record(3, TimeUnit.SECONDS);
+        // Then
+        assertThat(histogram.snapshot().max()).isBetween(latency, latency + latency / LatencyHistogram.SUB_BUCKETS);
+    }
+
+    @Test
+    void should_record_extreme_values() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        // When
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+        // Then
+        assertThat(histogram.snapshot().count()).isEqualTo(2L);
+        assertThat(histogram.snapshot().max()).isEqualTo(Long.MAX_VALUE);
+        assertThat(histogram.snapshot().min()).isEqualTo(0L);
+    }
+
+    @Test
+    void should_map_every_bucket_to_its_own_values() {
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 2; value = value * 3 + 1) {
+            // When
+            final int index = LatencyHistogram.indexOf(value);
+            // Then
+            assertThat(LatencyHistogram.highestValueAt(index)).isGreaterThanOrEqualTo(value);
+            assertThat(LatencyHistogram.indexOf(LatencyHistogram.highestValueAt(index))).isEqualTo(index);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LatencyHistogram#snapshot()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LatencyHistogram snapshot")
+class LatencyHistogram_snapshot_Test {
+
+    @Test
+    void should_return_zeros_when_empty() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        // When
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        // Then
+        assertThat(snapshot.count()).isEqualTo(0L);
+        assertThat(snapshot.percentile(50)).isEqualTo(0L);
+        assertThat(snapshot.min()).isEqualTo(0L);
+        assertThat(snapshot.max()).isEqualTo(0L);
+        assertThat(snapshot.mean()).isEqualTo(0.0);
+    }
+
+    @Test
+    void should_return_percentiles() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        // When
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        // Then
+        assertThat(snapshot.count()).isEqualTo(100L);
+        assertThat(snapshot.percentile(0)).isBetween(1000L, 1032L);
+        assertThat(snapshot.percentile(50)).isBetween(50000L, 51600L);
+        assertThat(snapshot.percentile(99)).isBetween(99000L, 102100L);
+        assertThat(snapshot.percentile(100)).isEqualTo(snapshot.max());
+        assertThat(snapshot.mean()).isBetween(50500.0, 52100.0);
+    }
+
+    @Test
+    void should_not_change_after_taken() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1);
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        // When
+        histogram.record(2);
+        histogram.reset();
+        // Then
+        assertThat(snapshot.count()).isEqualTo(1L);
+        assertThat(histogram.snapshot().count()).isEqualTo(0L);
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_percentile() {
+        // Given
+        final LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+        // When
+        final Throwable thrown = catchThrowable(() -> snapshot.percentile(101));
+        // Then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_have_string_representation() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(2_000_000);
+        // When
+        final String string = histogram.toString();
+        // Then
+        assertThat(string).startsWith("LatencyHistogram[count=1, p50=2");
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LongResultBatch#map(LongUnaryOperator)} and {@link LongResultBatch#filter(LongPredicate, int)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LongResultBatch map")
+class LongResultBatch_map_Test {
+
+    private final LongResultBatch batch =
+            LongResultBatch.of(150, i -> i >= 64 && i % 10 == 0 ? failure(i) : success((long) i));
+
+    @Test
+    void should_throw_exception_when_null_arguments() {
+        // When
+        final Throwable thrown1 = catchThrowable(() -> this.batch.map(null));
+        final Throwable thrown2 = catchThrowable(() -> this.batch.filter(null, 0));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_map_success_values_only() {
+        // When
+        final LongResultBatch mapped = this.batch.map(x -> x * 2);
+        // Then
+        assertThat(mapped.size()).isEqualTo(150);
+        assertThat(mapped.failureCount()).isEqualTo(8);
+        assertThat(mapped.get(1)).isEqualTo(success((long) 1 * 2));
+        assertThat(mapped.get(63)).isEqualTo(success((long) 63 * 2));
+        assertThat(mapped.get(71)).isEqualTo(success((long) 71 * 2));
+        assertThat(mapped.get(70)).isEqualTo(failure(70));
+        assertThat(this.batch.get(71)).isEqualTo(success((long) 71));
+    }
+
+    @Test
+    void should_turn_unacceptable_values_into_failures() {
+        // When
+        final LongResultBatch filtered = this.batch.filter(x -> x < 100, -1);
+        // Then
+        assertThat(filtered.size()).isEqualTo(150);
+        assertThat(filtered.failureCount()).isEqualTo(8 + 45);
+        assertThat(filtered.get(99)).isEqualTo(success((long) 99));
+        assertThat(filtered.get(90)).isEqualTo(failure(90));
+        assertThat(filtered.get(110)).isEqualTo(failure(110));
+        assertThat(filtered.get(111)).isEqualTo(failure(-1));
+        assertThat(this.batch.hasSuccess(111)).isTrue();
+    }
+}
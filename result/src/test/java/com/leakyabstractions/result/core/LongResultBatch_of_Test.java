@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LongResultBatch#of(int, IntFunction)}, {@link LongResultBatch#builder(int)} and
+ * {@link LongResultBatch#heapBuilder(int)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LongResultBatch of")
+class LongResultBatch_of_Test {
+
+    @Test
+    void should_throw_exception_when_invalid_arguments() {
+        // Given
+        final IntFunction<Result<Long, Integer>> rows = null;
+        // When
+        final Throwable thrown1 = catchThrowable(() -> LongResultBatch.of(1, rows));
+        final Throwable thrown2 = catchThrowable(() -> LongResultBatch.of(1, i -> null));
+        final Throwable thrown3 = catchThrowable(() -> LongResultBatch.of(-1, i -> success(1L)));
+        final Throwable thrown4 = catchThrowable(() -> LongResultBatch.builder(Integer.MAX_VALUE));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+        assertThat(thrown3).isInstanceOf(IllegalArgumentException.class);
+        assertThat(thrown4).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_create_batch_from_results() {
+        // When
+        final LongResultBatch batch = LongResultBatch.of(200, i -> i % 10 == 0 ? failure(-i) : success((long) i));
+        // Then
+        assertThat(batch.size()).isEqualTo(200);
+        assertThat(batch.failureCount()).isEqualTo(20);
+        assertThat(batch.hasSuccess(0)).isFalse();
+        assertThat(batch.hasSuccess(199)).isTrue();
+        assertThat(batch.getAsLong(199)).isEqualTo(199L);
+        assertThat(batch.failureCode(190)).isEqualTo(-190);
+        assertThat(batch.get(3)).isEqualTo(success((long) 3));
+        assertThat(batch.get(10)).isEqualTo(failure(-10));
+    }
+
+    @Test
+    void should_throw_exception_when_wrong_kind_of_value() {
+        // Given
+        final LongResultBatch batch = LongResultBatch.builder(2).addSuccess(1L).addFailure(7).build();
+        // When
+        final Throwable thrown1 = catchThrowable(() -> batch.getAsLong(1));
+        final Throwable thrown2 = catchThrowable(() -> batch.failureCode(0));
+        final Throwable thrown3 = catchThrowable(() -> batch.get(2));
+        final Throwable thrown4 = catchThrowable(() -> batch.hasSuccess(-1));
+        // Then
+        assertThat(thrown1).isInstanceOf(NoSuchElementException.class);
+        assertThat(thrown2).isInstanceOf(NoSuchElementException.class);
+        assertThat(thrown3).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(thrown4).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void should_build_partial_batch() {
+        // Given
+        final LongResultBatch.Builder builder = LongResultBatch.builder(100);
+        // When
+        final LongResultBatch batch = builder.addSuccess(1L).add(failure(3)).add(success(1L)).build();
+        // Then
+        assertThat(batch.size()).isEqualTo(3);
+        assertThat(batch.failureCode(1)).isEqualTo(3);
+        assertThat(batch.get(2)).isEqualTo(success(1L));
+    }
+
+    @Test
+    void should_store_batch_on_heap_when_heap_builder() {
+        // Given
+        final LongResultBatch.Builder builder = LongResultBatch.heapBuilder(100);
+        // When
+        final LongResultBatch batch = builder.addSuccess(1L).addFailure(3).build();
+        final LongResultBatch filtered = batch.filter(x -> false, 7);
+        // Then
+        assertThat(LongResultBatch.builder(1).build().isDirect()).isTrue();
+        assertThat(batch.isDirect()).isFalse();
+        assertThat(filtered.isDirect()).isFalse();
+        assertThat(filtered.get(0)).isEqualTo(failure(7));
+        assertThat(filtered.get(1)).isEqualTo(failure(3));
+        assertThat(filtered.failureCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_throw_exception_when_builder_is_full_or_built() {
+        // Given
+        final LongResultBatch.Builder full = LongResultBatch.builder(1).addSuccess(1L);
+        final LongResultBatch.Builder built = LongResultBatch.builder(1);
+        built.build();
+        // When
+        final Throwable thrown1 = catchThrowable(() -> full.addFailure(1));
+        final Throwable thrown2 = catchThrowable(() -> built.addSuccess(1L));
+        final Throwable thrown3 = catchThrowable(built::build);
+        final Throwable thrown4 = catchThrowable(() -> full.add(null));
+        // Then
+        assertThat(thrown1).isInstanceOf(IllegalStateException.class);
+        assertThat(thrown2).isInstanceOf(IllegalStateException.class);
+        assertThat(thrown3).isInstanceOf(IllegalStateException.class);
+        assertThat(thrown4).isInstanceOf(NullPointerException.class);
+    }
+}
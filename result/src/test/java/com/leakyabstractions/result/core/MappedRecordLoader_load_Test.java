@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MappedRecordLoader#load(Path, java.util.function.Consumer, java.util.function.Consumer)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("MappedRecordLoader load")
+class MappedRecordLoader_load_Test {
+
+    private static final RecordParser<Integer> INTEGER =
+            record -> Integer.valueOf(US_ASCII.decode(record).toString());
+
+    private final Queue<Integer> successes = new ConcurrentLinkedQueue<>();
+    private final Queue<ParseError> failures = new ConcurrentLinkedQueue<>();
+    private Path file;
+
+    @BeforeEach
+    void createFile() throws IOException {
+        this.file = Files.createTempFile("records", ".txt");
+    }
+
+    @AfterEach
+    void deleteFile() throws IOException {
+        Files.delete(this.file);
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_arguments() {
+        // Given
+        final MappedRecordLoader<Integer> loader = MappedRecordLoader.of(INTEGER);
+        // When
+        final Throwable thrown1 = catchThrowable(() -> MappedRecordLoader.of(null));
+        final Throwable thrown2 = catchThrowable(() -> MappedRecordLoader.of(INTEGER, (byte) ',', 0));
+        final Throwable thrown3 = catchThrowable(() -> loader.load(null, this.successes::add, this.failures::add));
+        final Throwable thrown4 = catchThrowable(() -> loader.load(this.file, null, this.failures::add));
+        final Throwable thrown5 = catchThrowable(() -> loader.load(this.file, this.successes::add, null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(IllegalArgumentException.class);
+        assertThat(thrown3).isInstanceOf(NullPointerException.class);
+        assertThat(thrown4).isInstanceOf(NullPointerException.class);
+        assertThat(thrown5).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_route_records_to_sinks() throws IOException {
+        // Given
+        Files.write(this.file, "1\n22\nabc\n333\n".getBytes(US_ASCII));
+        final MappedRecordLoader<Integer> loader = MappedRecordLoader.of(INTEGER);
+        // When
+        loader.load(this.file, this.successes::add, this.failures::add);
+        // Then
+        assertThat(this.successes).containsExactly(1, 22, 333);
+        assertThat(this.failures).containsExactly(ParseError.of(5, "For input string: \"abc\""));
+    }
+
+    @Test
+    void should_parse_last_record_without_delimiter() throws IOException {
+        // Given
+        Files.write(this.file, "1,2,x".getBytes(US_ASCII));
+        final MappedRecordLoader<Integer> loader = MappedRecordLoader.of(INTEGER, (byte) ',', 1024);
+        // When
+        loader.load(this.file, this.successes::add, this.failures::add);
+        // Then
+        assertThat(this.successes).containsExactly(1, 2);
+        assertThat(this.failures).hasSize(1);
+        assertThat(this.failures.peek().offset()).isEqualTo(4L);
+    }
+
+    @Test
+    void should_do_nothing_when_file_is_empty() throws IOException {
+        // Given
+        final MappedRecordLoader<Integer> loader = MappedRecordLoader.of(INTEGER);
+        // When
+        loader.load(this.file, this.successes::add, this.failures::add);
+        // Then
+        assertThat(this.successes).isEmpty();
+        assertThat(this.failures).isEmpty();
+    }
+
+    @Test
+    void should_split_chunks_at_record_boundaries() throws IOException {
+        // Given
+        final StringBuilder content = new StringBuilder();
+        final List<Long> offsets = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 100 == 0) {
+                offsets.add((long) content.length());
+                content.append("error").append(i).append('\n');
+            } else {
+                content.append(i).append('\n');
+            }
+        }
+        Files.write(this.file, content.toString().getBytes(US_ASCII));
+        final MappedRecordLoader<Integer> loader = MappedRecordLoader.of(INTEGER, (byte) '\n', 64);
+        // When
+        loader.load(this.file, this.successes::add, this.failures::add);
+        // Then
+        final List<Integer> parsed = new ArrayList<>(this.successes);
+        final List<Long> errors = new ArrayList<>();
+        this.failures.forEach(error -> errors.add(error.offset()));
+        Collections.sort(parsed);
+        Collections.sort(errors);
+        assertThat(parsed).hasSize(9_900);
+        assertThat(parsed.get(0)).isEqualTo(1);
+        assertThat(parsed.get(9_899)).isEqualTo(9_999);
+        assertThat(errors).isEqualTo(offsets);
+    }
+
+    @Test
+    void should_return_failure_when_parser_returns_null() throws IOException {
+        // Given
+        Files.write(this.file, "1\n".getBytes(US_ASCII));
+        final MappedRecordLoader<Integer> loader = MappedRecordLoader.of(record -> null);
+        // When
+        loader.load(this.file, this.successes::add, this.failures::add);
+        // Then
+        assertThat(this.failures).containsExactly(ParseError.of(0, "Parser returned null"));
+    }
+
+    @Test
+    void should_use_exception_when_no_message() throws IOException {
+        // Given
+        Files.write(this.file, "1\n".getBytes(US_ASCII));
+        final MappedRecordLoader<Integer> loader = MappedRecordLoader.of(record -> {
+            throw new IllegalStateException();
+        });
+        // When
+        loader.load(this.file, this.successes::add, this.failures::add);
+        // Then
+        assertThat(this.failures).containsExactly(ParseError.of(0, "java.lang.IllegalStateException"));
+    }
+
+    @Test
+    void should_throw_exception_when_file_does_not_exist() throws IOException {
+        // Given
+        final MappedRecordLoader<Integer> loader = MappedRecordLoader.of(INTEGER);
+        final Path missing = this.file.resolveSibling(this.file.getFileName() + ".missing");
+        // When
+        final Throwable thrown = catchThrowable(() -> loader.load(missing, this.successes::add, this.failures::add));
+        // Then
+        assertThat(thrown).isInstanceOf(IOException.class);
+    }
+}
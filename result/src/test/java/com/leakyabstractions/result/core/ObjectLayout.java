@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import org.openjdk.jol.datamodel.DataModel;
+import org.openjdk.jol.datamodel.Model64;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.layouters.HotSpotLayouter;
+
+/**
+ * Simulated HotSpot object layouts, independent of the flags of the JVM running the tests.
+ *
+ * @author Guillermo Calvo
+ */
+enum ObjectLayout {
+
+    /** 64-bit JVM with compressed oops and compressed class pointers (the default for heaps under 32 GB). */
+    COMPRESSED(new Model64(true, true, 8)),
+
+    /** 64-bit JVM with compressed class pointers only ({@code -XX:-UseCompressedOops}). */
+    COMPRESSED_CLASS_POINTERS(new Model64(false, true, 8)),
+
+    /** 64-bit JVM without compression ({@code -XX:-UseCompressedOops -XX:-UseCompressedClassPointers}). */
+    UNCOMPRESSED(new Model64(false, false, 8)),
+
+    /** 64-bit JVM with compressed oops and 16-byte alignment ({@code -XX:ObjectAlignmentInBytes=16}). */
+    COMPRESSED_ALIGNED_16(new Model64(true, true, 16));
+
+    private static final int JDK_VERSION = 21;
+
+    private final DataModel model;
+
+    ObjectLayout(DataModel model) {
+        this.model = model;
+    }
+
+    long instanceSize(Class<?> type) {
+        return ClassLayout.parseClass(type, new HotSpotLayouter(this.model, JDK_VERSION)).instanceSize();
+    }
+
+    String describe(Class<?> type) {
+        return ClassLayout.parseClass(type, new HotSpotLayouter(this.model, JDK_VERSION)).toPrintable();
+    }
+}
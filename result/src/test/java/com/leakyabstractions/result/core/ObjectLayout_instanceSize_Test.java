@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.ObjectLayout.COMPRESSED;
+import static com.leakyabstractions.result.core.ObjectLayout.COMPRESSED_ALIGNED_16;
+import static com.leakyabstractions.result.core.ObjectLayout.COMPRESSED_CLASS_POINTERS;
+import static com.leakyabstractions.result.core.ObjectLayout.UNCOMPRESSED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for {@link ObjectLayout#instanceSize(Class)}.
+ * <p>
+ * Guards the memory footprint of the core classes under every simulated object layout; any growth should be a
+ * deliberate decision.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ObjectLayout instanceSize")
+class ObjectLayout_instanceSize_Test {
+
+    static Stream<Arguments> should_have_expected_size() {
+        return Stream.of(
+                // A header plus a single reference to the success value
+                arguments(Success.class, COMPRESSED, 16),
+                arguments(Success.class, COMPRESSED_CLASS_POINTERS, 24),
+                arguments(Success.class, UNCOMPRESSED, 24),
+                arguments(Success.class, COMPRESSED_ALIGNED_16, 16),
+                // A header plus a single reference to the failure value
+                arguments(Failure.class, COMPRESSED, 16),
+                arguments(Failure.class, COMPRESSED_CLASS_POINTERS, 24),
+                arguments(Failure.class, UNCOMPRESSED, 24),
+                arguments(Failure.class, COMPRESSED_ALIGNED_16, 16),
+                // Same as Success, plus the cached hash code
+                arguments(HashedSuccess.class, COMPRESSED, 24),
+                arguments(HashedSuccess.class, COMPRESSED_CLASS_POINTERS, 24),
+                arguments(HashedSuccess.class, UNCOMPRESSED, 32),
+                arguments(HashedSuccess.class, COMPRESSED_ALIGNED_16, 32),
+                // A header plus a reference to the current value and a flag telling whether it is a success
+                arguments(ResultCursor.class, COMPRESSED, 24),
+                arguments(ResultCursor.class, COMPRESSED_CLASS_POINTERS, 24),
+                arguments(ResultCursor.class, UNCOMPRESSED, 32),
+                arguments(ResultCursor.class, COMPRESSED_ALIGNED_16, 32));
+    }
+
+    @ParameterizedTest(name = "{0} with {1}")
+    @MethodSource
+    void should_have_expected_size(Class<?> type, ObjectLayout layout, long expected) {
+        // When
+        final long size = layout.instanceSize(type);
+        // Then
+        assertThat(size).as(layout.describe(type)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ParseError#of(long, String)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ParseError of")
+class ParseError_of_Test {
+
+    @Test
+    void should_throw_exception_when_invalid_arguments() {
+        // When
+        final Throwable thrown1 = catchThrowable(() -> ParseError.of(0, null));
+        final Throwable thrown2 = catchThrowable(() -> ParseError.of(-1, "error"));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_hold_offset_and_message() {
+        // When
+        final ParseError error = ParseError.of(42, "bad record");
+        // Then
+        assertThat(error.offset()).isEqualTo(42L);
+        assertThat(error.message()).isEqualTo("bad record");
+        assertThat(error).hasToString("ParseError[offset=42, message=bad record]");
+    }
+
+    @Test
+    void should_be_equal_when_same_offset_and_message() {
+        // Given
+        final ParseError error = ParseError.of(42, "bad record");
+        // Then
+        assertThat(error).isEqualTo(error);
+        assertThat(error).isEqualTo(ParseError.of(42, "bad record"));
+        assertThat(error).hasSameHashCodeAs(ParseError.of(42, "bad record"));
+        assertThat(error).isNotEqualTo(ParseError.of(43, "bad record"));
+        assertThat(error).isNotEqualTo(ParseError.of(42, "other"));
+        assertThat(error).isNotEqualTo("bad record");
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultBatch#filter(Predicate, Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultBatch filter")
+class ResultBatch_filter_Test {
+
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_predicate() {
+        // Given
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(new String[] {"a"}, FAILURE);
+        // When
+        final Throwable thrown = catchThrowable(() -> batch.filter(null, x -> FAILURE));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_mapper_is_needed() {
+        // Given
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(new String[] {"a"}, FAILURE);
+        // When
+        final Throwable thrown1 = catchThrowable(() -> batch.filter(x -> false, null));
+        final Throwable thrown2 = catchThrowable(() -> batch.filter(x -> false, x -> null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_same_batch_when_all_acceptable() {
+        // Given
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(new String[] {"a", null}, FAILURE);
+        // When
+        final ResultBatch<String, String> filtered = batch.filter(x -> true, null);
+        // Then
+        assertThat(filtered).isSameAs(batch);
+    }
+
+    @Test
+    void should_merge_rejected_values_with_existing_failures() {
+        // Given
+        final List<Result<Integer, String>> results = new ArrayList<>();
+        final List<Result<Integer, String>> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            if (i % 5 == 0) {
+                results.add(failure("F" + i));
+                expected.add(failure("F" + i));
+            } else {
+                results.add(success(i));
+                expected.add(i % 3 == 0 ? failure("R" + i) : success(i));
+            }
+        }
+        final ResultBatch<Integer, String> batch = ResultBatch.of(results);
+        // When
+        final ResultBatch<Integer, String> filtered = batch.filter(x -> x % 3 != 0, x -> "R" + x);
+        // Then
+        assertThat(filtered.toList()).isEqualTo(expected);
+        assertThat(filtered.failureCount()).isEqualTo(47);
+        assertThat(filtered.hasSuccess(3)).isFalse();
+        assertThat(batch.hasSuccess(3)).isTrue();
+        assertThat(batch.toList()).isEqualTo(results);
+    }
+}
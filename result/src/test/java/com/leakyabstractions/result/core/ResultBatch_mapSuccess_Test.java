@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultBatch#mapSuccess(Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultBatch mapSuccess")
+class ResultBatch_mapSuccess_Test {
+
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_mapper() {
+        // Given
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(new String[] {"a"}, FAILURE);
+        final Function<String, Integer> mapper = null;
+        // When
+        final Throwable thrown = catchThrowable(() -> batch.mapSuccess(mapper));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_mapper_returns_null() {
+        // Given
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(new String[] {"a"}, FAILURE);
+        // When
+        final Throwable thrown = catchThrowable(() -> batch.mapSuccess(x -> null));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_map_success_values_only() {
+        // Given
+        final String[] values = new String[130];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 2 == 0 ? "v" + i : null;
+        }
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(values, FAILURE);
+        // When
+        final ResultBatch<Integer, String> mapped = batch.mapSuccess(String::length);
+        // Then
+        assertThat(mapped.size()).isEqualTo(130);
+        assertThat(mapped.successCount()).isEqualTo(65);
+        assertThat(mapped.get(0)).isEqualTo(success(2));
+        assertThat(mapped.get(128)).isEqualTo(success(4));
+        assertThat(mapped.get(129)).isEqualTo(failure(FAILURE));
+        assertThat(batch.get(128)).isEqualTo(success("v128"));
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultBatch#ofNullable(Object[], Object)} and friends.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultBatch ofNullable")
+class ResultBatch_ofNullable_Test {
+
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_values() {
+        // Given
+        final String[] array = null;
+        final List<String> list = null;
+        // When
+        final Throwable thrown1 = catchThrowable(() -> ResultBatch.ofNullable(array, FAILURE));
+        final Throwable thrown2 = catchThrowable(() -> ResultBatch.ofNullable(array, () -> FAILURE));
+        final Throwable thrown3 = catchThrowable(() -> ResultBatch.ofNullable(list, FAILURE));
+        final Throwable thrown4 = catchThrowable(() -> ResultBatch.ofNullable(list, () -> FAILURE));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+        assertThat(thrown3).isInstanceOf(NullPointerException.class);
+        assertThat(thrown4).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_failure_is_needed() {
+        // Given
+        final String[] values = {"a", null};
+        final String failure = null;
+        final Supplier<String> supplier = null;
+        // When
+        final Throwable thrown1 = catchThrowable(() -> ResultBatch.ofNullable(values, failure));
+        final Throwable thrown2 = catchThrowable(() -> ResultBatch.ofNullable(values, supplier));
+        final Throwable thrown3 = catchThrowable(() -> ResultBatch.ofNullable(values, () -> null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+        assertThat(thrown3).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_not_need_failure_when_no_null_values() {
+        // Given
+        final String[] values = {"a", "b"};
+        final String failure = null;
+        // When
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(values, failure);
+        // Then
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(batch.successCount()).isEqualTo(2);
+        assertThat(batch.failureCount()).isEqualTo(0);
+    }
+
+    @Test
+    void should_create_batch_from_array() {
+        // Given
+        final String[] values = {"a", null, "c", null};
+        // When
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(values, FAILURE);
+        values[0] = "z";
+        // Then
+        assertThat(batch.size()).isEqualTo(4);
+        assertThat(batch.successCount()).isEqualTo(2);
+        assertThat(batch.failureCount()).isEqualTo(2);
+        assertThat(batch.hasSuccess(0)).isTrue();
+        assertThat(batch.hasSuccess(1)).isFalse();
+        assertThat(batch.get(0)).isEqualTo(success("a"));
+        assertThat(batch.get(1)).isEqualTo(failure(FAILURE));
+        assertThat(batch.get(2)).isEqualTo(success("c"));
+        assertThat(batch.get(3)).isEqualTo(failure(FAILURE));
+    }
+
+    @Test
+    void should_create_batch_from_list() {
+        // Given
+        final List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i % 3 == 0 ? null : i);
+        }
+        final AtomicInteger counter = new AtomicInteger();
+        // When
+        final ResultBatch<Integer, Integer> batch = ResultBatch.ofNullable(values, counter::getAndIncrement);
+        // Then
+        assertThat(batch.size()).isEqualTo(1000);
+        assertThat(batch.failureCount()).isEqualTo(334);
+        assertThat(batch.get(998)).isEqualTo(success(998));
+        assertThat(batch.get(999)).isEqualTo(failure(333));
+        assertThat(batch.get(0)).isEqualTo(failure(0));
+    }
+
+    @Test
+    void should_call_supplier_once_per_null_value() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final String[] values = {null, "b", null};
+        // When
+        final ResultBatch<String, Integer> batch = ResultBatch.ofNullable(values, counter::incrementAndGet);
+        // Then
+        assertThat(counter.get()).isEqualTo(2);
+        assertThat(batch.get(0)).isEqualTo(failure(1));
+        assertThat(batch.get(2)).isEqualTo(failure(2));
+    }
+
+    @Test
+    void should_create_batch_from_list_with_constant_failure() {
+        // Given
+        final List<String> values = Arrays.asList(null, "b");
+        // When
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(values, FAILURE);
+        // Then
+        assertThat(batch.get(0)).isEqualTo(failure(FAILURE));
+        assertThat(batch.get(1)).isEqualTo(success("b"));
+    }
+
+    @Test
+    void should_create_empty_batch() {
+        // When
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(Collections.<String>emptyList(), FAILURE);
+        // Then
+        assertThat(batch.size()).isEqualTo(0);
+    }
+
+    @Test
+    void should_throw_exception_when_index_out_of_range() {
+        // Given
+        final ResultBatch<String, String> batch = ResultBatch.ofNullable(new String[] {"a"}, FAILURE);
+        // When
+        final Throwable thrown1 = catchThrowable(() -> batch.get(-1));
+        final Throwable thrown2 = catchThrowable(() -> batch.get(1));
+        final Throwable thrown3 = catchThrowable(() -> batch.hasSuccess(1));
+        // Then
+        assertThat(thrown1).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(thrown2).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(thrown3).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultBatch#of(List)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultBatch of")
+class ResultBatch_of_Test {
+
+    @Test
+    void should_throw_exception_when_null_results() {
+        // Given
+        final List<Result<String, String>> results = null;
+        final List<Result<String, String>> elements = Arrays.asList(success("a"), null);
+        // When
+        final Throwable thrown1 = catchThrowable(() -> ResultBatch.of(results));
+        final Throwable thrown2 = catchThrowable(() -> ResultBatch.of(elements));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_round_trip_list_of_results() {
+        // Given
+        final List<Result<Integer, String>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            results.add(i % 7 == 0 ? failure("F" + i) : success(i));
+        }
+        // When
+        final ResultBatch<Integer, String> batch = ResultBatch.of(results);
+        // Then
+        assertThat(batch.size()).isEqualTo(200);
+        assertThat(batch.failureCount()).isEqualTo(29);
+        assertThat(batch.successCount()).isEqualTo(171);
+        assertThat(batch.get(7)).isEqualTo(failure("F7"));
+        assertThat(batch.get(199)).isEqualTo(success(199));
+        assertThat(batch.toList()).isEqualTo(results);
+    }
+
+    @Test
+    void should_iterate_results_in_order() {
+        // Given
+        final List<Result<String, String>> results = Arrays.asList(failure("x"), success("a"), failure("y"));
+        final ResultBatch<String, String> batch = ResultBatch.of(results);
+        final List<Result<String, String>> iterated = new ArrayList<>();
+        // When
+        for (Result<String, String> result : batch) {
+            iterated.add(result);
+        }
+        final Throwable thrown = catchThrowable(() -> {
+            final Iterator<Result<String, String>> iterator = batch.iterator();
+            for (int i = 0; i <= results.size(); i++) {
+                iterator.next();
+            }
+        });
+        // Then
+        assertThat(iterated).isEqualTo(results);
+        assertThat(thrown).isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultCodec#decode(ByteBuffer)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultCodec decode")
+class ResultCodec_decode_Test {
+
+    private static final ResultCodec<String, Integer> CODEC = ResultCodec.of(
+            ValueCodec.ofString(), ValueCodec.ofInteger());
+
+    @Test
+    void should_decode_what_was_encoded() {
+        // Given
+        final Result<String, Integer> success = success("\u00bfQu\u00e9 tal? \u20ac \ud83d\ude00");
+        final Result<String, Integer> failure = failure(-1);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        CODEC.encode(success, buffer);
+        CODEC.encode(failure, buffer);
+        buffer.flip();
+        // When
+        final Result<String, Integer> result1 = CODEC.decode(buffer);
+        final Result<String, Integer> result2 = CODEC.decode(buffer);
+        // Then
+        assertThat(result1).isEqualTo(success);
+        assertThat(result2).isEqualTo(failure);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_tag() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {9});
+        // When
+        final Throwable thrown = catchThrowable(() -> CODEC.decode(buffer));
+        // Then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_negative_string_length() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.allocate(5).put(ResultCodec.SUCCESS).putInt(-1);
+        buffer.flip();
+        // When
+        final Throwable thrown = catchThrowable(() -> CODEC.decode(buffer));
+        // Then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_string_length_exceeds_remaining_bytes() {
+        // Given
+        final ByteBuffer heap = ByteBuffer.allocate(6).put(ResultCodec.SUCCESS).putInt(Integer.MAX_VALUE).put((byte) 1);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(5).put(ResultCodec.SUCCESS).putInt(Integer.MAX_VALUE);
+        heap.flip();
+        direct.flip();
+        // When
+        final Throwable thrown1 = catchThrowable(() -> CODEC.decode(heap));
+        final Throwable thrown2 = catchThrowable(() -> CODEC.decode(direct));
+        // Then
+        assertThat(thrown1).isInstanceOf(BufferUnderflowException.class);
+        assertThat(thrown2).isInstanceOf(BufferUnderflowException.class);
+    }
+}
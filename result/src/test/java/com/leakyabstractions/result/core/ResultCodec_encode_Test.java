@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultCodec#encode(Result, ByteBuffer)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultCodec encode")
+class ResultCodec_encode_Test {
+
+    private static final ResultCodec<String, Integer> CODEC = ResultCodec.of(
+            ValueCodec.ofString(), ValueCodec.ofInteger());
+
+    @Test
+    void should_throw_exception_when_null_codec() {
+        // When
+        final Throwable thrown = catchThrowable(() -> ResultCodec.of(ValueCodec.ofLong(), null));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_encode_success() {
+        // Given
+        final Result<String, Integer> success = success("SUCCESS");
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        // When
+        CODEC.encode(success, buffer);
+        // Then
+        assertThat(buffer.position()).isEqualTo(1 + 4 + 7);
+        assertThat(buffer.get(0)).isEqualTo(ResultCodec.SUCCESS);
+    }
+
+    @Test
+    void should_encode_failure() {
+        // Given
+        final Result<String, Integer> failure = failure(123);
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        // When
+        CODEC.encode(failure, buffer);
+        // Then
+        assertThat(buffer.position()).isEqualTo(1 + 4);
+        assertThat(buffer.get(0)).isEqualTo(ResultCodec.FAILURE);
+    }
+}
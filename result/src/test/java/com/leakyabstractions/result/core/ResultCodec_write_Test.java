@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultCodec#write(Result, java.io.DataOutput)} and {@link ResultCodec#read(java.io.DataInput)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultCodec write")
+class ResultCodec_write_Test {
+
+    private static final ResultCodec<Long, String> CODEC = ResultCodec.of(ValueCodec.ofLong(), ValueCodec.ofString());
+
+    @Test
+    void should_read_what_was_written() throws IOException {
+        // Given
+        final Result<Long, String> success = success(123L);
+        final Result<Long, String> failure = failure("\u00bfQu\u00e9 tal? \u20ac \ud83d\ude00");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        CODEC.write(success, output);
+        CODEC.write(failure, output);
+        final DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        // When
+        final Result<Long, String> result1 = CODEC.read(input);
+        final Result<Long, String> result2 = CODEC.read(input);
+        // Then
+        assertThat(result1).isEqualTo(success);
+        assertThat(result2).isEqualTo(failure);
+        assertThat(input.available()).isEqualTo(0);
+    }
+
+    @Test
+    void should_write_same_bytes_as_encode() throws IOException {
+        // Given
+        final Result<Long, String> failure = failure("caf\u00e9 \ud800");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        // When
+        CODEC.write(failure, new DataOutputStream(bytes));
+        CODEC.encode(failure, buffer);
+        // Then
+        assertThat(bytes.toByteArray()).isEqualTo(Arrays.copyOf(buffer.array(), buffer.position()));
+        assertThat(CODEC.decode(ByteBuffer.wrap(bytes.toByteArray()))).isEqualTo(failure("caf\u00e9 ?"));
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_tag() {
+        // Given
+        final InputStream bytes = new ByteArrayInputStream(new byte[] {9});
+        // When
+        final Throwable thrown = catchThrowable(() -> CODEC.read(new DataInputStream(bytes)));
+        // Then
+        assertThat(thrown).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void should_read_strings_longer_than_initial_chunk() throws IOException {
+        // Given
+        final char[] chars = new char[100_000];
+        Arrays.fill(chars, '\u00e9');
+        final Result<Long, String> failure = failure(new String(chars));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CODEC.write(failure, new DataOutputStream(bytes));
+        final InputStream input = new ByteArrayInputStream(bytes.toByteArray());
+        // When
+        final Result<Long, String> result = CODEC.read(new DataInputStream(input));
+        // Then
+        assertThat(result).isEqualTo(failure);
+    }
+
+    @Test
+    void should_throw_exception_when_negative_string_length() {
+        // Given
+        final InputStream bytes = new ByteArrayInputStream(new byte[] {ResultCodec.FAILURE, -1, -1, -1, -1});
+        // When
+        final Throwable thrown = catchThrowable(() -> CODEC.read(new DataInputStream(bytes)));
+        // Then
+        assertThat(thrown).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_string_length_exceeds_available_bytes() {
+        // Given
+        final InputStream bytes = new ByteArrayInputStream(new byte[] {ResultCodec.FAILURE, 127, -1, -1, -1, 'x'});
+        // When
+        final Throwable thrown = catchThrowable(() -> CODEC.read(new DataInputStream(bytes)));
+        // Then
+        assertThat(thrown).isInstanceOf(EOFException.class);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultContext#callable(Callable)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultContext callable")
+class ResultContext_callable_Test {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger captures = new AtomicInteger();
+    private final ResultContext<String> context = ResultContext.of(
+            () -> {
+                captures.incrementAndGet();
+                return CURRENT.get();
+            },
+            CURRENT::set,
+            CURRENT::remove);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        CURRENT.remove();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_restore_context_when_called() throws InterruptedException, ExecutionException {
+        // Given
+        CURRENT.set("CONTEXT");
+        final Callable<Result<String, Exception>> task = context.callable(CURRENT::get);
+        CURRENT.set("ANOTHER");
+        // When
+        final Result<String, Exception> result = executor.submit(task).get();
+        // Then
+        assertThat(result).isEqualTo(Results.success("CONTEXT"));
+        assertThat(captures.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_clear_context_when_done() throws InterruptedException, ExecutionException {
+        // Given
+        CURRENT.set("CONTEXT");
+        final Callable<Result<String, Exception>> task = context.callable(() -> {
+            throw new IOException();
+        });
+        // When
+        final Result<String, Exception> result = executor.submit(task).get();
+        final String after = executor.submit(CURRENT::get).get();
+        // Then
+        assertThat(result.hasFailure()).isTrue();
+        assertThat(after).isNull();
+    }
+
+    @Test
+    void should_clear_caller_context_when_called_on_same_thread() throws Exception {
+        // Given
+        CURRENT.set("CONTEXT");
+        final Callable<Result<String, Exception>> task = context.callable(CURRENT::get);
+        CURRENT.set("CALLER");
+        // When
+        final Result<String, Exception> result = task.call();
+        // Then
+        assertThat(result).isEqualTo(Results.success("CONTEXT"));
+        assertThat(CURRENT.get()).isNull();
+    }
+}
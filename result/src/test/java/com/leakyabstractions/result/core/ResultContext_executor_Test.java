@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultContext#executor(Executor)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultContext executor")
+class ResultContext_executor_Test {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final ResultContext<String> context = ResultContext.of(CURRENT::get, CURRENT::set, CURRENT::remove);
+    private final ExecutorService delegate = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        CURRENT.remove();
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void should_run_commands_within_submitting_context() throws InterruptedException, ExecutionException {
+        // Given
+        final Executor executor = context.executor(delegate);
+        CURRENT.set("CONTEXT");
+        // When
+        final Result<String, Exception> result =
+                CompletableFuture.supplyAsync(() -> Results.ofCallable(CURRENT::get), executor).get();
+        final String after = delegate.submit(CURRENT::get).get();
+        // Then
+        assertThat(result).isEqualTo(Results.success("CONTEXT"));
+        assertThat(after).isNull();
+    }
+
+    @Test
+    void should_clear_previous_context_of_executing_thread() throws InterruptedException, ExecutionException {
+        // Given
+        final Executor executor = context.executor(delegate);
+        delegate.submit(() -> CURRENT.set("WORKER")).get();
+        CURRENT.set("CONTEXT");
+        // When
+        final String seen = CompletableFuture.supplyAsync(CURRENT::get, executor).get();
+        final String after = delegate.submit(CURRENT::get).get();
+        // Then
+        assertThat(seen).isEqualTo("CONTEXT");
+        assertThat(after).isNull();
+    }
+}
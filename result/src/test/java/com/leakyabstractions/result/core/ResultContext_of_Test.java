@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultContext#of(java.util.function.Supplier, java.util.function.Consumer, Runnable)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultContext of")
+class ResultContext_of_Test {
+
+    @Test
+    void should_throw_exception_when_null_functions() {
+        // When
+        final Throwable thrown1 = catchThrowable(() -> ResultContext.of(null, x -> {}, () -> {}));
+        final Throwable thrown2 = catchThrowable(() -> ResultContext.of(() -> "", null, () -> {}));
+        final Throwable thrown3 = catchThrowable(() -> ResultContext.of(() -> "", x -> {}, null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+        assertThat(thrown3).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_tasks() {
+        // Given
+        final ResultContext<String> context = ResultContext.of(() -> "", x -> {}, () -> {});
+        // When
+        final Throwable thrown1 = catchThrowable(() -> context.callable(null));
+        final Throwable thrown2 = catchThrowable(() -> context.supplier(null));
+        final Throwable thrown3 = catchThrowable(() -> context.executor(null));
+        final Throwable thrown4 = catchThrowable(() -> context.executor(Runnable::run).execute(null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+        assertThat(thrown3).isInstanceOf(NullPointerException.class);
+        assertThat(thrown4).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultContext#supplier(Supplier)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultContext supplier")
+class ResultContext_supplier_Test {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final ResultContext<String> context = ResultContext.of(CURRENT::get, CURRENT::set, CURRENT::remove);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        CURRENT.remove();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_restore_context_when_supplied_asynchronously() throws InterruptedException, ExecutionException {
+        // Given
+        CURRENT.set("CONTEXT");
+        final Supplier<Result<String, String>> task = context.supplier(() -> Results.ofNullable(CURRENT.get(), "NONE"));
+        // When
+        final Result<String, String> result = CompletableFuture.supplyAsync(task, executor).get();
+        final String after = executor.submit(CURRENT::get).get();
+        // Then
+        assertThat(result).isEqualTo(Results.success("CONTEXT"));
+        assertThat(after).isNull();
+    }
+
+    @Test
+    void should_restore_context_when_forked_in_scope() throws InterruptedException {
+        // Given
+        CURRENT.set("CONTEXT");
+        final Result<List<String>, String> result;
+        try (ResultScope<String, String, Result<List<String>, String>> scope = ResultScope.allSuccesses()) {
+            // When
+            scope.fork(context.supplier(() -> Results.ofNullable(CURRENT.get(), "NONE")));
+            result = scope.join();
+        }
+        // Then
+        assertThat(result.getSuccess().get()).containsExactly("CONTEXT");
+    }
+}
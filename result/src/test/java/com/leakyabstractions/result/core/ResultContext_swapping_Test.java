@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultContext#swapping(java.util.function.Supplier, UnaryOperator)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultContext swapping")
+class ResultContext_swapping_Test {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger captures = new AtomicInteger();
+    private final ResultContext<String> context = ResultContext.swapping(
+            () -> {
+                captures.incrementAndGet();
+                return CURRENT.get();
+            },
+            ResultContext_swapping_Test::swap);
+    private final ExecutorService delegate = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        CURRENT.remove();
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void should_throw_exception_when_null_functions() {
+        // Given
+        final UnaryOperator<String> swap = ResultContext_swapping_Test::swap;
+        // When
+        final Throwable thrown1 = catchThrowable(() -> ResultContext.swapping(null, swap));
+        final Throwable thrown2 = catchThrowable(() -> ResultContext.swapping(CURRENT::get, null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_keep_caller_context_when_called_on_same_thread() throws Exception {
+        // Given
+        CURRENT.set("CONTEXT");
+        final Callable<Result<String, Exception>> task = context.callable(CURRENT::get);
+        CURRENT.set("CALLER");
+        // When
+        final Result<String, Exception> result1 = task.call();
+        final Result<String, Exception> result2 = task.call();
+        // Then
+        assertThat(result1).isEqualTo(Results.success("CONTEXT"));
+        assertThat(result2).isEqualTo(Results.success("CONTEXT"));
+        assertThat(CURRENT.get()).isEqualTo("CALLER");
+        assertThat(captures.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_keep_submitting_context_when_run_on_same_thread() {
+        // Given
+        final Executor executor = context.executor(Runnable::run);
+        CURRENT.set("CALLER");
+        final String[] seen = new String[1];
+        // When
+        executor.execute(() -> {
+            seen[0] = CURRENT.get();
+            CURRENT.set("CHANGED");
+        });
+        // Then
+        assertThat(seen[0]).isEqualTo("CALLER");
+        assertThat(CURRENT.get()).isEqualTo("CALLER");
+    }
+
+    @Test
+    void should_keep_previous_context_of_executing_thread() throws InterruptedException, ExecutionException {
+        // Given
+        final Executor executor = context.executor(delegate);
+        delegate.submit(() -> CURRENT.set("WORKER")).get();
+        CURRENT.set("CONTEXT");
+        // When
+        final String seen = CompletableFuture.supplyAsync(CURRENT::get, executor).get();
+        final String after = delegate.submit(CURRENT::get).get();
+        // Then
+        assertThat(seen).isEqualTo("CONTEXT");
+        assertThat(after).isEqualTo("WORKER");
+    }
+
+    private static String swap(String context) {
+        final String previous = CURRENT.get();
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
+}
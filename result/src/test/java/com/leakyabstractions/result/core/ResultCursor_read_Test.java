@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultCursor} read operations.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultCursor read")
+class ResultCursor_read_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_empty() {
+        // Given
+        final ResultCursor<String, String> cursor = ResultCursor.create();
+        // When
+        final Throwable thrown1 = catchThrowable(cursor::hasSuccess);
+        final Throwable thrown2 = catchThrowable(cursor::freeze);
+        // Then
+        assertThat(thrown1).isInstanceOf(IllegalStateException.class);
+        assertThat(thrown2).isInstanceOf(IllegalStateException.class);
+        assertThat(cursor).hasToString("ResultCursor[]");
+    }
+
+    @Test
+    void should_throw_exception_when_reset_with_null() {
+        // Given
+        final ResultCursor<String, String> cursor = ResultCursor.create();
+        // When
+        final Throwable thrown1 = catchThrowable(() -> cursor.success(null));
+        final Throwable thrown2 = catchThrowable(() -> cursor.failure(null));
+        final Throwable thrown3 = catchThrowable(() -> cursor.reset(null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+        assertThat(thrown3).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_read_success_value() {
+        // Given
+        final ResultCursor<String, String> cursor = ResultCursor.<String, String>create().success(SUCCESS);
+        final List<String> consumed = new ArrayList<>();
+        // When
+        cursor.ifSuccess(consumed::add).ifFailure(consumed::add).ifSuccessOrElse(consumed::add, null);
+        // Then
+        assertThat(consumed).containsExactly(SUCCESS, SUCCESS);
+        assertThat(cursor.hasSuccess()).isTrue();
+        assertThat(cursor.hasFailure()).isFalse();
+        assertThat(cursor.getSuccess()).contains(SUCCESS);
+        assertThat(cursor.getFailure()).isEmpty();
+        assertThat(cursor.orElse(FAILURE)).isEqualTo(SUCCESS);
+        assertThat(cursor.orElseMap(null)).isEqualTo(SUCCESS);
+        assertThat(cursor.streamSuccess().collect(toList())).containsExactly(SUCCESS);
+        assertThat(cursor.streamFailure().collect(toList())).isEmpty();
+        assertThat(cursor).hasToString("ResultCursor[success=SUCCESS]");
+    }
+
+    @Test
+    void should_read_failure_value() {
+        // Given
+        final ResultCursor<String, String> cursor = ResultCursor.<String, String>create().failure(FAILURE);
+        final List<String> consumed = new ArrayList<>();
+        // When
+        cursor.ifSuccess(consumed::add).ifFailure(consumed::add).ifSuccessOrElse(null, consumed::add);
+        // Then
+        assertThat(consumed).containsExactly(FAILURE, FAILURE);
+        assertThat(cursor.hasSuccess()).isFalse();
+        assertThat(cursor.hasFailure()).isTrue();
+        assertThat(cursor.getSuccess()).isEmpty();
+        assertThat(cursor.getFailure()).contains(FAILURE);
+        assertThat(cursor.orElse(SUCCESS)).isEqualTo(SUCCESS);
+        assertThat(cursor.orElseMap(String::toLowerCase)).isEqualTo("failure");
+        assertThat(cursor.streamSuccess().collect(toList())).isEmpty();
+        assertThat(cursor.streamFailure().collect(toList())).containsExactly(FAILURE);
+        assertThat(cursor).hasToString("ResultCursor[failure=FAILURE]");
+    }
+
+    @Test
+    void should_be_reusable() {
+        // Given
+        final ResultCursor<String, String> cursor = ResultCursor.create();
+        // When
+        cursor.success(SUCCESS);
+        final boolean first = cursor.hasSuccess();
+        cursor.reset(failure(FAILURE));
+        final boolean second = cursor.hasSuccess();
+        cursor.reset(success(SUCCESS));
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(cursor.orElse(null)).isEqualTo(SUCCESS);
+    }
+
+    @Test
+    void should_freeze_current_value() {
+        // Given
+        final ResultCursor<String, String> cursor = ResultCursor.create();
+        // When
+        final Object frozen1 = cursor.success(SUCCESS).freeze();
+        final Object frozen2 = cursor.failure(FAILURE).freeze();
+        // Then
+        assertThat(frozen1).isEqualTo(success(SUCCESS));
+        assertThat(frozen2).isEqualTo(failure(FAILURE));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultCursor} transform operations.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultCursor transform")
+class ResultCursor_transform_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    private final ResultCursor<String, String> cursor = ResultCursor.create();
+
+    @Test
+    void should_transform_in_place() {
+        // Given
+        this.cursor.success(SUCCESS);
+        // When
+        final ResultCursor<String, String> mapped = this.cursor.mapSuccess(String::toLowerCase);
+        // Then
+        assertThat(mapped).isSameAs(this.cursor);
+        assertThat(mapped.freeze()).isEqualTo(success("success"));
+    }
+
+    @Test
+    void should_map_success_value() {
+        // When
+        final Object result1 = this.cursor.success(SUCCESS).map(String::toLowerCase, null).freeze();
+        final Object result2 = this.cursor.success(SUCCESS).mapSuccess(String::toLowerCase).freeze();
+        final Object result3 = this.cursor.success(SUCCESS).mapFailure(null).freeze();
+        final Object result4 = this.cursor.success(SUCCESS).flatMap(x -> failure(FAILURE), null).freeze();
+        final Object result5 = this.cursor.success(SUCCESS).flatMapSuccess(x -> success("OTHER")).freeze();
+        final Object result6 = this.cursor.success(SUCCESS).flatMapFailure(null).freeze();
+        // Then
+        assertThat(result1).isEqualTo(success("success"));
+        assertThat(result2).isEqualTo(success("success"));
+        assertThat(result3).isEqualTo(success(SUCCESS));
+        assertThat(result4).isEqualTo(failure(FAILURE));
+        assertThat(result5).isEqualTo(success("OTHER"));
+        assertThat(result6).isEqualTo(success(SUCCESS));
+    }
+
+    @Test
+    void should_map_failure_value() {
+        // When
+        final Object result1 = this.cursor.failure(FAILURE).map(null, String::toLowerCase).freeze();
+        final Object result2 = this.cursor.failure(FAILURE).mapSuccess(null).freeze();
+        final Object result3 = this.cursor.failure(FAILURE).mapFailure(String::toLowerCase).freeze();
+        final Object result4 = this.cursor.failure(FAILURE).flatMap(null, x -> success(SUCCESS)).freeze();
+        final Object result5 = this.cursor.failure(FAILURE).flatMapSuccess(null).freeze();
+        final Object result6 = this.cursor.failure(FAILURE).flatMapFailure(x -> failure("OTHER")).freeze();
+        // Then
+        assertThat(result1).isEqualTo(failure("failure"));
+        assertThat(result2).isEqualTo(failure(FAILURE));
+        assertThat(result3).isEqualTo(failure("failure"));
+        assertThat(result4).isEqualTo(success(SUCCESS));
+        assertThat(result5).isEqualTo(failure(FAILURE));
+        assertThat(result6).isEqualTo(failure("OTHER"));
+    }
+
+    @Test
+    void should_filter_success_value() {
+        // When
+        final Object result1 = this.cursor.success(SUCCESS).filter(x -> true, null).freeze();
+        final Object result2 = this.cursor.success(SUCCESS).filter(x -> false, x -> FAILURE).freeze();
+        final Object result3 = this.cursor.failure(FAILURE).filter(null, null).freeze();
+        // Then
+        assertThat(result1).isEqualTo(success(SUCCESS));
+        assertThat(result2).isEqualTo(failure(FAILURE));
+        assertThat(result3).isEqualTo(failure(FAILURE));
+    }
+
+    @Test
+    void should_recover_failure_value() {
+        // When
+        final Object result1 = this.cursor.failure(FAILURE).recover(x -> false, null).freeze();
+        final Object result2 = this.cursor.failure(FAILURE).recover(x -> true, x -> SUCCESS).freeze();
+        final Object result3 = this.cursor.success(SUCCESS).recover(null, null).freeze();
+        // Then
+        assertThat(result1).isEqualTo(failure(FAILURE));
+        assertThat(result2).isEqualTo(success(SUCCESS));
+        assertThat(result3).isEqualTo(success(SUCCESS));
+    }
+
+    @Test
+    void should_throw_exception_when_mapper_returns_null() {
+        // When
+        final Throwable thrown1 = catchThrowable(() -> this.cursor.success(SUCCESS).mapSuccess(x -> null));
+        final Throwable thrown2 = catchThrowable(() -> this.cursor.failure(FAILURE).mapFailure(x -> null));
+        final Throwable thrown3 = catchThrowable(() -> this.cursor.success(SUCCESS).filter(x -> false, x -> null));
+        final Throwable thrown4 = catchThrowable(() -> this.cursor.failure(FAILURE).recover(x -> true, x -> null));
+        final Throwable thrown5 = catchThrowable(() -> this.cursor.success(SUCCESS).flatMapSuccess(x -> null));
+        final Throwable thrown6 = catchThrowable(() -> this.cursor.failure(FAILURE).flatMap(null, x -> null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+        assertThat(thrown3).isInstanceOf(NullPointerException.class);
+        assertThat(thrown4).isInstanceOf(NullPointerException.class);
+        assertThat(thrown5).isInstanceOf(NullPointerException.class);
+        assertThat(thrown6).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultLatency#named(String)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultLatency named")
+class ResultLatency_named_Test {
+
+    @Test
+    void should_throw_exception_when_null_name() {
+        // When
+        final Throwable thrown = catchThrowable(() -> ResultLatency.named(null));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_same_instance_for_same_name() {
+        // When
+        final ResultLatency latency = ResultLatency.named("ResultLatency_named_Test");
+        // Then
+        assertThat(latency.name()).isEqualTo("ResultLatency_named_Test");
+        assertThat(ResultLatency.named("ResultLatency_named_Test")).isSameAs(latency);
+        assertThat(ResultLatency.registry()).containsEntry("ResultLatency_named_Test", latency);
+    }
+
+    @Test
+    void should_record_by_outcome() {
+        // Given
+        final ResultLatency latency = ResultLatency.named("ResultLatency_named_Test.outcome");
+        // When
+        latency.record(new Success<>("SUCCESS"), 100);
+        latency.record(new Failure<>("FAILURE"), 200);
+        latency.record(new Failure<>("FAILURE"), 300);
+        // Then
+        assertThat(latency.successes().snapshot().count()).isEqualTo(1L);
+        assertThat(latency.failures().snapshot().count()).isEqualTo(2L);
+        assertThat(latency.toString()).startsWith("ResultLatency[ResultLatency_named_Test.outcome, successes=[count=1");
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultScope#allSuccesses()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultScope allSuccesses")
+class ResultScope_allSuccesses_Test {
+
+    @Test
+    void should_succeed_with_all_success_values_in_fork_order() throws InterruptedException {
+        // Given
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Result<List<Integer>, String> result;
+        try (ResultScope<Integer, String, Result<List<Integer>, String>> scope = ResultScope.allSuccesses()) {
+            // When
+            scope.fork(() -> {
+                await(latch);
+                return success(1);
+            });
+            scope.fork(() -> {
+                latch.countDown();
+                return success(2);
+            });
+            result = scope.join();
+        }
+        // Then
+        assertThat(result).isEqualTo(success(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    void should_fail_and_cancel_siblings_when_any_subtask_fails() throws InterruptedException {
+        // Given
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final Result<List<Integer>, String> result;
+        try (ResultScope<Integer, String, Result<List<Integer>, String>> scope = ResultScope.allSuccesses()) {
+            // When
+            scope.fork(() -> {
+                try {
+                    new CountDownLatch(1).await();
+                    return success(1);
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                    return failure("CANCELLED");
+                }
+            });
+            scope.fork(() -> failure("FAILURE"));
+            result = scope.join();
+        }
+        // Then
+        assertThat(result).isEqualTo(failure("FAILURE"));
+        assertThat(cancelled.getCount()).isZero();
+    }
+
+    @Test
+    void should_rethrow_exception_when_subtask_throws() throws InterruptedException {
+        // Given
+        final IllegalArgumentException exception = new IllegalArgumentException();
+        final Throwable thrown;
+        try (ResultScope<Integer, String, Result<List<Integer>, String>> scope = ResultScope.allSuccesses()) {
+            scope.fork(() -> {
+                throw exception;
+            });
+            // When
+            thrown = catchThrowable(scope::join);
+        }
+        // Then
+        assertThat(thrown).isSameAs(exception);
+    }
+
+    @Test
+    void should_wrap_exception_when_subtask_throws_checked_exception() throws InterruptedException {
+        // Given
+        final IOException exception = new IOException();
+        final Throwable thrown;
+        try (ResultScope<Integer, String, Result<List<Integer>, String>> scope = ResultScope.allSuccesses()) {
+            scope.fork(() -> sneakyThrow(exception));
+            // When
+            thrown = catchThrowable(scope::join);
+        }
+        // Then
+        assertThat(thrown).isInstanceOf(CompletionException.class);
+        assertThat(thrown.getCause()).isSameAs(exception);
+    }
+
+    @Test
+    void should_succeed_with_empty_list_when_nothing_forked() throws InterruptedException {
+        // Given
+        final Result<List<Integer>, String> result;
+        try (ResultScope<Integer, String, Result<List<Integer>, String>> scope = ResultScope.allSuccesses()) {
+            // When
+            result = scope.join();
+        }
+        // Then
+        assertThat(result).isEqualTo(success(Arrays.asList()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E extends Throwable> T sneakyThrow(Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+
+    static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
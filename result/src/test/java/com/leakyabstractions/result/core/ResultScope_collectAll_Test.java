@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultScope#collectAll()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultScope collectAll")
+class ResultScope_collectAll_Test {
+
+    @Test
+    void should_succeed_with_all_success_values_when_every_subtask_succeeds() throws InterruptedException {
+        // Given
+        final Result<List<Integer>, List<String>> result;
+        try (ResultScope<Integer, String, Result<List<Integer>, List<String>>> scope = ResultScope.collectAll()) {
+            // When
+            for (int i = 0; i < 100; i++) {
+                final int value = i;
+                scope.fork(() -> success(value));
+            }
+            result = scope.join();
+        }
+        // Then
+        assertThat(result.getSuccess().get()).hasSize(100);
+        assertThat(result.getSuccess().get().get(99)).isEqualTo(99);
+    }
+
+    @Test
+    void should_fail_with_all_failure_values_when_any_subtask_fails() throws InterruptedException {
+        // Given
+        final Result<List<Integer>, List<String>> result;
+        try (ResultScope<Integer, String, Result<List<Integer>, List<String>>> scope = ResultScope.collectAll()) {
+            // When
+            scope.fork(() -> failure("FIRST"));
+            scope.fork(() -> success(1));
+            scope.fork(() -> failure("SECOND"));
+            result = scope.join();
+        }
+        // Then
+        assertThat(result).isEqualTo(failure(Arrays.asList("FIRST", "SECOND")));
+    }
+}
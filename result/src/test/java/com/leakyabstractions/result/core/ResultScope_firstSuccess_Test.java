@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultScope#firstSuccess()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultScope firstSuccess")
+class ResultScope_firstSuccess_Test {
+
+    @Test
+    void should_succeed_and_cancel_siblings_when_any_subtask_succeeds() throws InterruptedException {
+        // Given
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final Result<String, List<String>> result;
+        try (ResultScope<String, String, Result<String, List<String>>> scope = ResultScope.firstSuccess()) {
+            // When
+            scope.fork(() -> failure("FAILURE"));
+            scope.fork(() -> {
+                try {
+                    new CountDownLatch(1).await();
+                    return success("SLOW");
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                    return failure("CANCELLED");
+                }
+            });
+            scope.fork(() -> success("FAST"));
+            result = scope.join();
+        }
+        // Then
+        assertThat(result).isEqualTo(success("FAST"));
+        assertThat(cancelled.getCount()).isZero();
+    }
+
+    @Test
+    void should_fail_with_all_failure_values_in_fork_order_when_every_subtask_fails() throws InterruptedException {
+        // Given
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Result<String, List<String>> result;
+        try (ResultScope<String, String, Result<String, List<String>>> scope = ResultScope.firstSuccess()) {
+            // When
+            scope.fork(() -> {
+                ResultScope_allSuccesses_Test.await(latch);
+                return failure("FIRST");
+            });
+            scope.fork(() -> {
+                latch.countDown();
+                return failure("SECOND");
+            });
+            result = scope.join();
+        }
+        // Then
+        assertThat(result).isEqualTo(failure(Arrays.asList("FIRST", "SECOND")));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultScope#fork(java.util.function.Supplier)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultScope fork")
+class ResultScope_fork_Test {
+
+    @Test
+    void should_throw_exception_when_null_task() {
+        // Given
+        try (ResultScope<Integer, String, Result<List<Integer>, String>> scope = ResultScope.allSuccesses()) {
+            // When
+            final Throwable thrown = catchThrowable(() -> scope.fork(null));
+            // Then
+            assertThat(thrown).isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Test
+    void should_throw_exception_when_already_joined() throws InterruptedException {
+        // Given
+        try (ResultScope<Integer, String, Result<List<Integer>, String>> scope = ResultScope.allSuccesses()) {
+            scope.join();
+            // When
+            final Throwable thrown1 = catchThrowable(() -> scope.fork(() -> success(1)));
+            final Throwable thrown2 = catchThrowable(scope::join);
+            // Then
+            assertThat(thrown1).isInstanceOf(IllegalStateException.class);
+            assertThat(thrown2).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void should_throw_exception_when_not_owner() throws InterruptedException {
+        // Given
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        try (ResultScope<Integer, String, Result<List<Integer>, String>> scope = ResultScope.allSuccesses()) {
+            // When
+            final Thread thread = new Thread(() -> thrown.set(catchThrowable(() -> scope.fork(() -> success(1)))));
+            thread.start();
+            thread.join();
+        }
+        // Then
+        assertThat(thrown.get()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_cancel_and_wait_for_subtasks_when_closed() {
+        // Given
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(1);
+        final ResultScope<Integer, String, Result<List<Integer>, String>> scope = ResultScope.allSuccesses();
+        scope.fork(() -> {
+            try {
+                started.countDown();
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                finished.countDown();
+            }
+            return success(1);
+        });
+        ResultScope_allSuccesses_Test.await(started);
+        // When
+        scope.close();
+        // Then
+        assertThat(finished.getCount()).isZero();
+        assertThat(scope).hasToString("ResultScope[forked=1, pending=0]");
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.ResultSpliterator_of_Test.PARSER;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultSpliterator#failFast(Spliterator, Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultSpliterator failFast")
+class ResultSpliterator_failFast_Test {
+
+    @Test
+    void should_throw_exception_when_null_arguments() {
+        // Given
+        final Spliterator<String> source = Arrays.asList("1").spliterator();
+        // When
+        final Throwable thrown1 = catchThrowable(() -> ResultSpliterator.failFast(null, PARSER));
+        final Throwable thrown2 = catchThrowable(() -> ResultSpliterator.failFast(source, null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_stop_after_first_failure() {
+        // Given
+        final List<String> parsed = new ArrayList<>();
+        final Spliterator<String> source = Arrays.asList("1", "x", "3", "4").spliterator();
+        final ResultSpliterator<String, Integer, String> spliterator = ResultSpliterator.failFast(source, line -> {
+            parsed.add(line);
+            return PARSER.apply(line);
+        });
+        final List<Result<Integer, String>> results = new ArrayList<>();
+        // When
+        spliterator.forEachRemaining(results::add);
+        // Then
+        assertThat(parsed).containsExactly("1", "x");
+        assertThat(results).hasSize(2);
+        assertThat(results.get(1).getFailure().orElse(null)).isEqualTo("x");
+        assertThat(spliterator.estimateSize()).isEqualTo(0L);
+        assertThat(spliterator.trySplit()).isNull();
+    }
+
+    @Test
+    void should_not_report_exact_size() {
+        // Given
+        final Spliterator<String> source = Arrays.asList("1", "2", "3").spliterator();
+        // When
+        final ResultSpliterator<String, Integer, String> spliterator = ResultSpliterator.failFast(source, PARSER);
+        // Then
+        assertThat(spliterator.estimateSize()).isEqualTo(3L);
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+    }
+
+    @Test
+    void should_stop_every_split() {
+        // Given
+        final Spliterator<String> source = Arrays.asList("1", "2", "x", "4").spliterator();
+        final ResultSpliterator<String, Integer, String> spliterator = ResultSpliterator.failFast(source, PARSER);
+        final Spliterator<Result<Integer, String>> prefix = spliterator.trySplit();
+        final List<Result<Integer, String>> results = new ArrayList<>();
+        // When
+        spliterator.forEachRemaining(results::add);
+        final boolean advanced = prefix.tryAdvance(results::add);
+        // Then
+        assertThat(results).hasSize(1);
+        assertThat(advanced).isFalse();
+    }
+
+    @Test
+    void should_stop_parallel_streams() {
+        // Given
+        final Spliterator<String> source = IntStream.range(0, 100_000)
+                .mapToObj(x -> x == 10 ? "x" : String.valueOf(x))
+                .collect(toList())
+                .spliterator();
+        // When
+        final List<Result<Integer, String>> results = StreamSupport
+                .stream(ResultSpliterator.failFast(source, PARSER), true)
+                .collect(toList());
+        // Then
+        assertThat(results.stream().filter(result -> !result.hasSuccess()).count()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultSpliterator#of(Spliterator, Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultSpliterator of")
+class ResultSpliterator_of_Test {
+
+    static final Function<String, Result<Integer, String>> PARSER = line -> {
+        try {
+            return success(Integer.valueOf(line));
+        } catch (NumberFormatException e) {
+            return failure(line);
+        }
+    };
+
+    @Test
+    void should_throw_exception_when_null_arguments() {
+        // Given
+        final Spliterator<String> source = Arrays.asList("1").spliterator();
+        // When
+        final Throwable thrown1 = catchThrowable(() -> ResultSpliterator.of(null, PARSER));
+        final Throwable thrown2 = catchThrowable(() -> ResultSpliterator.of(source, null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_parse_every_element_lazily() {
+        // Given
+        final List<String> parsed = new ArrayList<>();
+        final Spliterator<String> source = Arrays.asList("1", "x", "3").spliterator();
+        final ResultSpliterator<String, Integer, String> spliterator = ResultSpliterator.of(source, line -> {
+            parsed.add(line);
+            return PARSER.apply(line);
+        });
+        final List<Result<Integer, String>> results = new ArrayList<>();
+        // When
+        final boolean advanced = spliterator.tryAdvance(results::add);
+        final List<String> parsedAfterFirst = new ArrayList<>(parsed);
+        spliterator.forEachRemaining(results::add);
+        // Then
+        assertThat(advanced).isTrue();
+        assertThat(parsedAfterFirst).containsExactly("1");
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).orElse(null)).isEqualTo(1);
+        assertThat(results.get(1).getFailure().orElse(null)).isEqualTo("x");
+        assertThat(results.get(2).orElse(null)).isEqualTo(3);
+    }
+
+    @Test
+    void should_report_source_size_and_characteristics() {
+        // Given
+        final Spliterator<String> source = new TreeSet<>(Arrays.asList("1", "2", "3")).spliterator();
+        // When
+        final ResultSpliterator<String, Integer, String> spliterator = ResultSpliterator.of(source, PARSER);
+        // Then
+        assertThat(spliterator.estimateSize()).isEqualTo(3L);
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED)).isFalse();
+        assertThat(spliterator.hasCharacteristics(Spliterator.DISTINCT)).isFalse();
+    }
+
+    @Test
+    void should_split_like_source() {
+        // Given
+        final Spliterator<String> source = Arrays.asList("1", "2", "3", "4").spliterator();
+        final ResultSpliterator<String, Integer, String> spliterator = ResultSpliterator.of(source, PARSER);
+        // When
+        final Spliterator<Result<Integer, String>> prefix = spliterator.trySplit();
+        // Then
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize()).isEqualTo(2L);
+        assertThat(spliterator.estimateSize()).isEqualTo(2L);
+    }
+
+    @Test
+    void should_not_split_when_source_cannot_split() {
+        // Given
+        final Spliterator<String> source = Arrays.asList("1").spliterator();
+        final ResultSpliterator<String, Integer, String> spliterator = ResultSpliterator.of(source, PARSER);
+        // When
+        final Spliterator<Result<Integer, String>> prefix = spliterator.trySplit();
+        // Then
+        assertThat(prefix).isNull();
+    }
+
+    @Test
+    void should_split_in_growing_batches_when_source_cannot_split() {
+        // Given
+        final ResultSpliterator<String, Integer, String> spliterator = ResultSpliterator.of(unsplittable(5000), PARSER);
+        final List<Result<Integer, String>> results = new ArrayList<>();
+        // When
+        final Spliterator<Result<Integer, String>> prefix1 = spliterator.trySplit();
+        final Spliterator<Result<Integer, String>> prefix2 = spliterator.trySplit();
+        prefix1.forEachRemaining(results::add);
+        // Then
+        assertThat(prefix1.estimateSize()).isEqualTo(0L);
+        assertThat(prefix2.estimateSize()).isEqualTo(2048L);
+        assertThat(spliterator.estimateSize()).isEqualTo(5000L - 1024 - 2048);
+        assertThat(results).hasSize(1024);
+        assertThat(results.get(1023)).isEqualTo(success(1023));
+        assertThat(prefix2.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+    }
+
+    @Test
+    void should_work_with_parallel_streams_when_source_cannot_split() {
+        // When
+        final List<Integer> successes = StreamSupport.stream(ResultSpliterator.of(unsplittable(10_000), PARSER), true)
+                .map(result -> result.orElse(null))
+                .collect(toList());
+        // Then
+        assertThat(successes).hasSize(10_000);
+        assertThat(successes.get(9_999)).isEqualTo(9_999);
+    }
+
+    @Test
+    void should_work_with_parallel_streams() {
+        // Given
+        final Spliterator<String> source = IntStream.range(0, 10_000)
+                .mapToObj(x -> x % 10 == 0 ? "x" + x : String.valueOf(x))
+                .collect(toList())
+                .spliterator();
+        // When
+        final List<Integer> successes = StreamSupport.stream(ResultSpliterator.of(source, PARSER), true)
+                .filter(Result::hasSuccess)
+                .map(result -> result.orElse(null))
+                .collect(toList());
+        // Then
+        assertThat(successes).hasSize(9_000);
+    }
+
+    @Test
+    void should_throw_exception_when_parser_returns_null() {
+        // Given
+        final Spliterator<String> source = Arrays.asList("1").spliterator();
+        final ResultSpliterator<String, Integer, String> spliterator = ResultSpliterator.of(source, line -> null);
+        // When
+        final Throwable thrown = catchThrowable(() -> spliterator.tryAdvance(result -> {}));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    /** Returns a sized source that never splits by itself. */
+    private static Spliterator<String> unsplittable(int size) {
+        final Spliterator<String> source = IntStream.range(0, size).mapToObj(String::valueOf).spliterator();
+        return new Spliterators.AbstractSpliterator<String>(size, Spliterator.ORDERED | Spliterator.SIZED) {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super String> action) {
+                return source.tryAdvance(action);
+            }
+
+            @Override
+            public Spliterator<String> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return source.estimateSize();
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.flatMapSuccess;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Results#flatMapSuccess(Result, Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results flatMapSuccess")
+class Results_flatMapSuccess_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_mapper_returns_null() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        final Function<String, Result<String, String>> mapper = x -> null;
+        // When
+        final Throwable thrown = catchThrowable(() -> flatMapSuccess(result, mapper));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_mapped_result_when_success() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        final Result<Integer, String> another = failure("ANOTHER");
+        final Function<String, Result<Integer, String>> mapper = x -> another;
+        // When
+        final Result<Integer, String> mapped1 = flatMapSuccess(result, mapper);
+        final Result<Integer, String> mapped2 = flatMapSuccess(ForeignResult.of(result), mapper);
+        // Then
+        assertThat(mapped1).isSameAs(another);
+        assertThat(mapped2).isSameAs(another);
+    }
+
+    @Test
+    void should_return_same_instance_when_failure() {
+        // Given
+        final Result<String, String> result = failure(FAILURE);
+        final Function<String, Result<Integer, String>> mapper = x -> {
+            throw new AssertionError("Should not happen");
+        };
+        // When
+        final Result<Integer, String> mapped = flatMapSuccess(result, mapper);
+        // Then
+        assertThat(mapped).isSameAs(result);
+    }
+}
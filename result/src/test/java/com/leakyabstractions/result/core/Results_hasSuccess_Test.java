@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.hasSuccess;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Results#hasSuccess(com.leakyabstractions.result.api.Result)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results hasSuccess")
+class Results_hasSuccess_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_result() {
+        // When
+        final Throwable thrown = catchThrowable(() -> hasSuccess(null));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_true_when_success() {
+        // When
+        final boolean hasSuccess1 = hasSuccess(success(SUCCESS));
+        final boolean hasSuccess2 = hasSuccess(ForeignResult.of(success(SUCCESS)));
+        // Then
+        assertThat(hasSuccess1).isTrue();
+        assertThat(hasSuccess2).isTrue();
+    }
+
+    @Test
+    void should_return_false_when_failure() {
+        // When
+        final boolean hasSuccess1 = hasSuccess(failure(FAILURE));
+        final boolean hasSuccess2 = hasSuccess(ForeignResult.of(failure(FAILURE)));
+        // Then
+        assertThat(hasSuccess1).isFalse();
+        assertThat(hasSuccess2).isFalse();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.hashedSuccess;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Results#hashedSuccess(Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results hashedSuccess")
+class Results_hashedSuccess_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+
+    @Test
+    void should_throw_exception_when_null() {
+        // When
+        final Throwable thrown = catchThrowable(() -> hashedSuccess(null));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_create_successful_result() {
+        // When
+        final Result<String, Integer> result = hashedSuccess(SUCCESS);
+        // Then
+        assertThat(result.hasSuccess()).isTrue();
+        assertThat(result.orElse(null)).isSameAs(SUCCESS);
+        assertThat(result).isEqualTo(Results.success(SUCCESS));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.internedFailure;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Results#internedFailure(Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results internedFailure")
+class Results_internedFailure_Test {
+
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null() {
+        // When
+        final Throwable thrown = catchThrowable(() -> internedFailure(null));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_same_instance_when_equal_failure_values() {
+        // When
+        final Result<String, String> result1 = internedFailure(FAILURE);
+        final Result<String, String> result2 = internedFailure(new String("FAILURE"));
+        // Then
+        assertThat(result1.hasFailure()).isTrue();
+        assertThat(result1.getFailure()).contains(FAILURE);
+        assertThat(result2).isSameAs(result1);
+    }
+}
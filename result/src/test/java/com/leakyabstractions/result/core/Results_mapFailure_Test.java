@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.mapFailure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Results#mapFailure(Result, Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results mapFailure")
+class Results_mapFailure_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_mapper_returns_null() {
+        // Given
+        final Result<String, String> result = failure(FAILURE);
+        final Function<String, String> mapper = x -> null;
+        // When
+        final Throwable thrown = catchThrowable(() -> mapFailure(result, mapper));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_same_instance_when_success() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        final Function<String, Integer> mapper = x -> {
+            throw new AssertionError("Should not happen");
+        };
+        // When
+        final Result<String, Integer> mapped = mapFailure(result, mapper);
+        // Then
+        assertThat(mapped).isSameAs(result);
+    }
+
+    @Test
+    void should_map_failure_value_when_failure() {
+        // Given
+        final Result<String, String> result = failure(FAILURE);
+        final Function<String, Integer> mapper = String::length;
+        // When
+        final Result<String, Integer> mapped1 = mapFailure(result, mapper);
+        final Result<String, Integer> mapped2 = mapFailure(ForeignResult.of(result), mapper);
+        // Then
+        assertThat(mapped1).isEqualTo(failure(7));
+        assertThat(mapped2).isEqualTo(failure(7));
+    }
+}
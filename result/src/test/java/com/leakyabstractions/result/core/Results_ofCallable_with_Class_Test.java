@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.ofCallable;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Results#ofCallable(CheckedCallable, Class)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results ofCallable with exception type")
+class Results_ofCallable_with_Class_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_callable() {
+        // Given
+        final CheckedCallable<String, IOException> callable = null;
+        // When
+        final Throwable thrown = catchThrowable(() -> Results.ofCallable(callable, IOException.class));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_exception_type() {
+        // Given
+        final CheckedCallable<String, IOException> callable = () -> SUCCESS;
+        final Class<IOException> exceptionType = null;
+        // When
+        final Throwable thrown = catchThrowable(() -> Results.ofCallable(callable, exceptionType));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_callable_returns_null() {
+        // Given
+        final CheckedCallable<String, IOException> callable = () -> null;
+        // When
+        final Throwable thrown = catchThrowable(() -> Results.ofCallable(callable, IOException.class));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_success() {
+        // Given
+        final CheckedCallable<String, IOException> callable = () -> SUCCESS;
+        // When
+        final Result<String, IOException> result = ofCallable(callable, IOException.class);
+        // Then
+        assertThat(result).isEqualTo(success(SUCCESS));
+    }
+
+    @Test
+    void should_return_failure_when_exception_type_matches() {
+        // Given
+        final FileNotFoundException exception = new FileNotFoundException(FAILURE);
+        final CheckedCallable<String, IOException> callable = () -> {
+            throw exception;
+        };
+        // When
+        final Result<String, IOException> result = ofCallable(callable, IOException.class);
+        // Then
+        assertThat(result).isEqualTo(failure(exception));
+    }
+
+    @Test
+    void should_propagate_runtime_exception_when_exception_type_does_not_match() {
+        // Given
+        final IllegalStateException exception = new IllegalStateException(FAILURE);
+        final CheckedCallable<String, IOException> callable = () -> {
+            throw exception;
+        };
+        // When
+        final Throwable thrown = catchThrowable(() -> ofCallable(callable, IOException.class));
+        // Then
+        assertThat(thrown).isSameAs(exception);
+    }
+
+    @Test
+    void should_return_failure_when_method_reference_throws_matching_exception() {
+        // Given
+        final String path = FAILURE;
+        // When
+        final Result<String, IOException> result = ofCallable(() -> open(path), IOException.class);
+        // Then
+        assertThat(result.getFailure().orElse(null)).isInstanceOf(FileNotFoundException.class);
+    }
+
+    private static String open(String path) throws IOException {
+        throw new FileNotFoundException(path);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.ofCallable;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Results#ofCallable(CheckedCallable, CheckedFunction, Class)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results ofCallable with function and exception type")
+class Results_ofCallable_with_Function_and_Class_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_arguments() {
+        // Given
+        final CheckedCallable<String, NumberFormatException> callable = () -> SUCCESS;
+        final CheckedFunction<String, Integer, NumberFormatException> mapper = String::length;
+        // When
+        final Throwable thrown1 = catchThrowable(() -> Results.ofCallable(null, mapper, NumberFormatException.class));
+        final Throwable thrown2 = catchThrowable(() -> Results.ofCallable(callable, null, NumberFormatException.class));
+        final Throwable thrown3 = catchThrowable(() -> Results.ofCallable(callable, mapper, null));
+        // Then
+        assertThat(thrown1).isInstanceOf(NullPointerException.class);
+        assertThat(thrown2).isInstanceOf(NullPointerException.class);
+        assertThat(thrown3).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_mapper_returns_null() {
+        // Given
+        final CheckedCallable<String, NumberFormatException> callable = () -> SUCCESS;
+        final CheckedFunction<String, Integer, NumberFormatException> mapper = x -> null;
+        // When
+        final Throwable thrown = catchThrowable(() -> ofCallable(callable, mapper, NumberFormatException.class));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_success() {
+        // Given
+        final CheckedCallable<String, NumberFormatException> callable = () -> "123";
+        // When
+        final Result<Integer, NumberFormatException> result =
+                ofCallable(callable, Integer::valueOf, NumberFormatException.class);
+        // Then
+        assertThat(result).isEqualTo(success(123));
+    }
+
+    @Test
+    void should_return_failure_when_mapper_throws_matching_exception() {
+        // Given
+        final CheckedCallable<String, NumberFormatException> callable = () -> FAILURE;
+        // When
+        final Result<Integer, NumberFormatException> result =
+                ofCallable(callable, Integer::valueOf, NumberFormatException.class);
+        // Then
+        assertThat(result.getFailure().orElse(null)).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void should_return_failure_when_callable_throws_matching_exception() {
+        // Given
+        final TimeoutException exception = new TimeoutException(FAILURE);
+        final CheckedCallable<String, TimeoutException> callable = () -> {
+            throw exception;
+        };
+        // When
+        final Result<Integer, TimeoutException> result =
+                ofCallable(callable, Integer::valueOf, TimeoutException.class);
+        // Then
+        assertThat(result).isEqualTo(failure(exception));
+    }
+
+    @Test
+    void should_propagate_exception_when_exception_type_does_not_match() {
+        // Given
+        final IllegalStateException exception = new IllegalStateException(FAILURE);
+        final CheckedCallable<String, NumberFormatException> callable = () -> {
+            throw exception;
+        };
+        // When
+        final Throwable thrown =
+                catchThrowable(() -> ofCallable(callable, Integer::valueOf, NumberFormatException.class));
+        // Then
+        assertThat(thrown).isSameAs(exception);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.ofCallable;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Results#ofCallable(Callable, ResultLatency)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results ofCallable with latency")
+class Results_ofCallable_with_ResultLatency_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_latency() {
+        // Given
+        final Callable<String> callable = () -> SUCCESS;
+        final ResultLatency latency = null;
+        // When
+        final Throwable thrown = catchThrowable(() -> Results.ofCallable(callable, latency));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_record_success() {
+        // Given
+        final Callable<String> callable = () -> SUCCESS;
+        final ResultLatency latency = ResultLatency.named("Results_ofCallable_with_ResultLatency_Test.success");
+        // When
+        final Result<String, Exception> result = ofCallable(callable, latency);
+        // Then
+        assertThat(result).isEqualTo(success(SUCCESS));
+        assertThat(latency.successes().snapshot().count()).isEqualTo(1L);
+        assertThat(latency.failures().snapshot().count()).isEqualTo(0L);
+    }
+
+    @Test
+    void should_record_failure() {
+        // Given
+        final IOException exception = new IOException(FAILURE);
+        final Callable<String> callable = () -> {
+            throw exception;
+        };
+        final ResultLatency latency = ResultLatency.named("Results_ofCallable_with_ResultLatency_Test.failure");
+        // When
+        final Result<String, Exception> result = ofCallable(callable, latency);
+        // Then
+        assertThat(result).isEqualTo(failure(exception));
+        assertThat(latency.successes().snapshot().count()).isEqualTo(0L);
+        assertThat(latency.failures().snapshot().count()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.ofFunction;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Results#ofFunction(CheckedFunction, Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results ofFunction")
+class Results_ofFunction_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_function() {
+        // Given
+        final CheckedFunction<String, String, Exception> function = null;
+        // When
+        final Throwable thrown = catchThrowable(() -> ofFunction(function, SUCCESS));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_function_returns_null() {
+        // Given
+        final CheckedFunction<String, String, Exception> function = x -> null;
+        // When
+        final Throwable thrown = catchThrowable(() -> ofFunction(function, SUCCESS));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_success() {
+        // When
+        final Result<Integer, Exception> result = ofFunction(Integer::valueOf, "123");
+        // Then
+        assertThat(result).isEqualTo(success(123));
+    }
+
+    @Test
+    void should_pass_null_argument() {
+        // When
+        final Result<String, Exception> result = ofFunction(String::valueOf, null);
+        // Then
+        assertThat(result).isEqualTo(success("null"));
+    }
+
+    @Test
+    void should_return_failure_when_function_throws_exception() {
+        // Given
+        final IOException exception = new IOException(FAILURE);
+        final CheckedFunction<String, String, Exception> function = x -> {
+            throw exception;
+        };
+        // When
+        final Result<String, Exception> result = ofFunction(function, SUCCESS);
+        // Then
+        assertThat(result).isEqualTo(failure(exception));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.orElseMap;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Results#orElseMap(Result, Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results orElseMap")
+class Results_orElseMap_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_mapper_and_failure() {
+        // Given
+        final Result<String, String> result = failure(FAILURE);
+        final Function<String, String> mapper = null;
+        // When
+        final Throwable thrown = catchThrowable(() -> orElseMap(result, mapper));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_success_value_when_success() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        final Function<String, String> mapper = x -> "";
+        // When
+        final String value1 = orElseMap(result, mapper);
+        final String value2 = orElseMap(ForeignResult.of(result), mapper);
+        // Then
+        assertThat(value1).isSameAs(SUCCESS);
+        assertThat(value2).isSameAs(SUCCESS);
+    }
+
+    @Test
+    void should_return_mapped_value_when_failure() {
+        // Given
+        final Result<String, String> result = failure(FAILURE);
+        final Function<String, String> mapper = String::toLowerCase;
+        // When
+        final String value1 = orElseMap(result, mapper);
+        final String value2 = orElseMap(ForeignResult.of(result), mapper);
+        // Then
+        assertThat(value1).isEqualTo("failure");
+        assertThat(value2).isEqualTo("failure");
+    }
+}
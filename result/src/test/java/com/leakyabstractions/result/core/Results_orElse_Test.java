@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.orElse;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Results#orElse(Result, Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("Results orElse")
+class Results_orElse_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+    private static final String OTHER = "OTHER";
+
+    @Test
+    void should_throw_exception_when_null_result() {
+        // When
+        final Throwable thrown = catchThrowable(() -> orElse(null, OTHER));
+        // Then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_return_success_value_when_success() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        // When
+        final String value1 = orElse(result, OTHER);
+        final String value2 = orElse(ForeignResult.of(result), OTHER);
+        // Then
+        assertThat(value1).isSameAs(SUCCESS);
+        assertThat(value2).isSameAs(SUCCESS);
+    }
+
+    @Test
+    void should_return_other_value_when_failure() {
+        // Given
+        final Result<String, String> result = failure(FAILURE);
+        // When
+        final String value1 = orElse(result, OTHER);
+        final String value2 = orElse(ForeignResult.of(result), OTHER);
+        // Then
+        assertThat(value1).isSameAs(OTHER);
+        assertThat(value2).isSameAs(OTHER);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.startup;
+
+import java.util.concurrent.Callable;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Creates a single {@link Result} in a fresh JVM and reports how long it took.
+ * <p>
+ * The first argument selects the factory: {@code success} for {@link Results#success(Object)} or {@code ofCallable}
+ * for {@link Results#ofCallable(Callable)}. The time it takes to create the first result, including loading and
+ * initializing the library classes, is printed as {@code first_result_ns=<nanoseconds>}.
+ * <p>
+ * This program avoids lambdas and string concatenation, so that the classes loaded to bootstrap them are not counted
+ * against the library when run with {@code -Xlog:class+load}.
+ * <p>
+ * A class-data sharing archive for the library can be created by running this program once with
+ * {@code -XX:ArchiveClassesAtExit=result.jsa}, and used afterwards with {@code -XX:SharedArchiveFile=result.jsa}. The
+ * {@code coldStartBenchmark} task of this module compares both ways.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public final class ColdStart {
+
+    private ColdStart() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    /**
+     * Creates the first result.
+     *
+     * @param args the name of the factory to use
+     */
+    public static void main(String[] args) {
+        final String factory = args.length > 0 ? args[0] : "success";
+        final long start = System.nanoTime();
+        final Result<String, ?> result;
+        switch (factory) {
+            case "success":
+                result = Results.success("x");
+                break;
+            case "ofCallable":
+                result = Results.ofCallable(new Task());
+                break;
+            default:
+                throw new IllegalArgumentException(factory);
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (!result.hasSuccess()) {
+            System.exit(1);
+        }
+        System.out.print("first_result_ns=");
+        System.out.println(elapsed);
+    }
+
+    private static final class Task implements Callable<String> {
+
+        @Override
+        public String call() {
+            return "x";
+        }
+    }
+}
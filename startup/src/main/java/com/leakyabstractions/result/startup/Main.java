@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.startup;
+
+import static java.util.Collections.singletonList;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Exercises every {@link Results} factory and every {@link Result} operation, and reports peak memory usage.
+ * <p>
+ * This program is meant to be run both on the JVM and as a native executable. It exits with status {@code 1} if any
+ * operation behaves unexpectedly, which is also the case if the library ever needs reflection or other dynamic
+ * features that are not registered for native images.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public final class Main {
+
+    private static final List<String> errors = new ArrayList<>();
+
+    private Main() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    /**
+     * Runs all checks.
+     *
+     * @param args ignored
+     */
+    public static void main(String[] args) {
+        factories();
+        successOperations();
+        failureOperations();
+        helpers();
+        if (!errors.isEmpty()) {
+            errors.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println("rss_kb=" + peakResidentSetSize());
+    }
+
+    private static void factories() {
+        check("success", Results.success(1), "Success[1]");
+        check("failure", Results.failure("x"), "Failure[x]");
+        check("hashedSuccess", Results.hashedSuccess(1), "Success[1]");
+        check("internedFailure", Results.internedFailure("x"), "Failure[x]");
+        check("ofNullable", Results.ofNullable(null, "x"), "Failure[x]");
+        check("ofNullable(Supplier)", Results.ofNullable(1, () -> "x"), "Success[1]");
+        check("ofOptional", Results.ofOptional(Optional.empty(), "x"), "Failure[x]");
+        check("ofOptional(Supplier)", Results.ofOptional(Optional.of(1), () -> "x"), "Success[1]");
+        check("ofCallable", Results.ofCallable(() -> 1), "Success[1]");
+        check("ofCallable(Function)", Results.ofCallable(() -> "1", Integer::valueOf), "Success[1]");
+        check(
+                "ofCallable(Class)",
+                Results.ofCallable(Main::fail, IOException.class),
+                "Failure[java.io.IOException: x]");
+        check(
+                "ofCallable(Function, Class)",
+                Results.ofCallable(() -> "1", Integer::valueOf, IOException.class),
+                "Success[1]");
+        check("ofFunction", Results.ofFunction(Integer::valueOf, "1"), "Success[1]");
+        check("ofBiFunction", Results.ofBiFunction(Integer::sum, 1, 2), "Success[3]");
+    }
+
+    private static void successOperations() {
+        final Result<Integer, String> success = Results.success(1);
+        final AtomicInteger actions = new AtomicInteger();
+        check("getSuccess", success.getSuccess(), Optional.of(1));
+        check("getFailure", success.getFailure(), Optional.empty());
+        check("hasSuccess", success.hasSuccess(), true);
+        check("hasFailure", success.hasFailure(), false);
+        check("orElse", success.orElse(2), 1);
+        check("orElseMap", success.orElseMap(String::length), 1);
+        check("streamSuccess", success.streamSuccess().collect(Collectors.toList()), singletonList(1));
+        check("streamFailure", success.streamFailure().count(), 0L);
+        success.ifSuccess(x -> actions.incrementAndGet());
+        success.ifSuccessOrElse(x -> actions.incrementAndGet(), x -> actions.addAndGet(10));
+        success.ifFailure(x -> actions.addAndGet(10));
+        check("ifSuccess", actions.get(), 2);
+        check("filter", success.filter(x -> x > 1, String::valueOf), "Failure[1]");
+        check("recover", success.recover(x -> true, String::length), "Success[1]");
+        check("map", success.map(x -> x + 1, String::length), "Success[2]");
+        check("mapSuccess", success.mapSuccess(x -> x + 1), "Success[2]");
+        check("mapFailure", success.mapFailure(String::length), "Success[1]");
+        check("flatMap", success.flatMap(x -> Results.failure("y"), Results::success), "Failure[y]");
+        check("flatMapSuccess", success.flatMapSuccess(x -> Results.success(x + 1)), "Success[2]");
+        check("flatMapFailure", success.flatMapFailure(Results::failure), "Success[1]");
+        check("equals", success.equals(Results.success(1)), true);
+        check("hashCode", success.hashCode(), Integer.valueOf(1).hashCode());
+    }
+
+    private static void failureOperations() {
+        final Result<Integer, String> failure = Results.failure("x");
+        final AtomicInteger actions = new AtomicInteger();
+        check("getSuccess", failure.getSuccess(), Optional.empty());
+        check("getFailure", failure.getFailure(), Optional.of("x"));
+        check("hasSuccess", failure.hasSuccess(), false);
+        check("hasFailure", failure.hasFailure(), true);
+        check("orElse", failure.orElse(2), 2);
+        check("orElseMap", failure.orElseMap(String::length), 1);
+        check("streamSuccess", failure.streamSuccess().count(), 0L);
+        check("streamFailure", failure.streamFailure().collect(Collectors.toList()), singletonList("x"));
+        failure.ifSuccess(x -> actions.addAndGet(10));
+        failure.ifSuccessOrElse(x -> actions.addAndGet(10), x -> actions.incrementAndGet());
+        failure.ifFailure(x -> actions.incrementAndGet());
+        check("ifFailure", actions.get(), 2);
+        check("filter", failure.filter(x -> false, String::valueOf), "Failure[x]");
+        check("recover", failure.recover(x -> true, String::length), "Success[1]");
+        check("map", failure.map(x -> x + 1, String::length), "Failure[1]");
+        check("mapSuccess", failure.mapSuccess(x -> x + 1), "Failure[x]");
+        check("mapFailure", failure.mapFailure(String::length), "Failure[1]");
+        check("flatMap", failure.flatMap(Results::success, x -> Results.success(2)), "Success[2]");
+        check("flatMapSuccess", failure.flatMapSuccess(Results::success), "Failure[x]");
+        check("flatMapFailure", failure.flatMapFailure(x -> Results.failure(x + x)), "Failure[xx]");
+        check("equals", failure.equals(Results.failure("x")), true);
+        check("hashCode", failure.hashCode(), "x".hashCode());
+    }
+
+    private static void helpers() {
+        final Result<Integer, String> success = Results.success(1);
+        final Result<Integer, String> failure = Results.failure("x");
+        check("Results.hasSuccess", Results.hasSuccess(success), true);
+        check("Results.orElse", Results.orElse(failure, 2), 2);
+        check("Results.orElseMap", Results.orElseMap(failure, String::length), 1);
+        check("Results.mapSuccess", Results.mapSuccess(success, x -> x + 1), "Success[2]");
+        check("Results.mapFailure", Results.mapFailure(failure, String::length), "Failure[1]");
+        check("Results.flatMapSuccess", Results.flatMapSuccess(success, Results::success), "Success[1]");
+    }
+
+    private static Integer fail() throws IOException {
+        throw new IOException("x");
+    }
+
+    private static void check(String operation, Result<?, ?> actual, String expected) {
+        check(operation, actual.toString(), expected);
+    }
+
+    private static void check(String operation, Object actual, Object expected) {
+        if (!expected.equals(actual)) {
+            errors.add(operation + ": expected <" + expected + "> but was <" + actual + ">");
+        }
+    }
+
+    /** Returns the peak resident set size in kilobytes, or {@code -1} if unknown. */
+    private static long peakResidentSetSize() {
+        final Path status = Paths.get("/proc/self/status");
+        try {
+            for (String line : Files.readAllLines(status, StandardCharsets.US_ASCII)) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not available on this platform
+        }
+        return -1;
+    }
+}